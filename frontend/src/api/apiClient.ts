@@ -31,6 +31,10 @@ class ApiClient {
     localStorage.setItem('refreshToken', refreshToken);
   }
 
+  public getRefreshToken(): string | null {
+    return this.refreshToken;
+  }
+
   public removeTokens(): void {
     this.accessToken = null;
     this.refreshToken = null;
@@ -66,6 +70,11 @@ class ApiClient {
             .then((data) => {
               this.accessToken = data.accessToken;
               localStorage.setItem('accessToken', data.accessToken);
+              // Refresh tokens are single-use: keep the rotated one for the next refresh
+              if (data.refreshToken) {
+                this.refreshToken = data.refreshToken;
+                localStorage.setItem('refreshToken', data.refreshToken);
+              }
               resolve(true);
             })
             .catch((error) => {
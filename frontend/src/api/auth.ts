@@ -50,7 +50,8 @@ export const register = async (userData: RegisterRequest): Promise<User> => {
 
 export const logout = async (): Promise<void> => {
   try {
-    await apiClient.post(API_ENDPOINTS.auth.logout, {});
+    // Revokes the access token and this device's refresh token session
+    await apiClient.post(API_ENDPOINTS.auth.logout, { refreshToken: apiClient.getRefreshToken() });
     apiClient.removeTokens();
   } catch (err) {
     console.error('Logout failed:', err);
@@ -0,0 +1,67 @@
+package com.projectmanage.main.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.projectmanage.main.jwt.JWTUtil;
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.Task;
+import com.projectmanage.main.model.User;
+
+/**
+ * Detached object graphs and collaborators shared by the benchmarks. Nothing here touches Spring
+ * or the database.
+ */
+final class BenchmarkFixtures {
+
+  static final String SECRET = "benchmark-secret-key-for-jwt-signing-at-least-256-bits-long";
+  static final long ACCESS_TOKEN_MS = 60L * 60 * 1000;
+
+  private BenchmarkFixtures() {
+  }
+
+  static JWTUtil jwtUtil() {
+    return new JWTUtil(SECRET);
+  }
+
+  static User user(long id) {
+    return User.builder().id(id).email("user" + id + "@example.com")
+        .username("user" + id + "@example.com").name("Benchmark User " + id)
+        .picture("https://example.com/avatar/" + id + ".png").role("USER").build();
+  }
+
+  /**
+   * A project with {@code milestones} milestones of {@code tasksPerMilestone} tasks each, plus the
+   * same number of tasks without a milestone.
+   */
+  static Project project(long id, int milestones, int tasksPerMilestone) {
+    LocalDateTime now = LocalDateTime.now();
+    Project project = Project.builder().id(id).title("Project " + id)
+        .description("Benchmark project " + id).user(user(1)).createdAt(now).updatedAt(now)
+        .build();
+
+    long taskId = id * 1_000_000;
+    for (int m = 0; m < milestones; m++) {
+      Milestone milestone = Milestone.builder().id(id * 1_000 + m).title("Milestone " + m)
+          .description("Milestone description " + m).completed(m % 3 == 0).createdAt(now)
+          .updatedAt(now).build();
+      project.addMilestone(milestone);
+      for (int t = 0; t < tasksPerMilestone; t++) {
+        Task task = task(taskId++, now);
+        project.addTask(task);
+        milestone.addTask(task);
+      }
+    }
+    for (int t = 0; t < tasksPerMilestone; t++) {
+      project.addTask(task(taskId++, now));
+    }
+    return project;
+  }
+
+  private static Task task(long id, LocalDateTime now) {
+    return Task.builder().id(id).title("Task " + id).description("Task description " + id)
+        .completed(id % 2 == 0).dueDate(LocalDate.now().plusDays(id % 30)).createdAt(now)
+        .updatedAt(now).build();
+  }
+}
@@ -0,0 +1,46 @@
+package com.projectmanage.main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.projectmanage.main.jwt.JWTClaims;
+import com.projectmanage.main.jwt.JWTUtil;
+import com.projectmanage.main.model.User;
+
+/**
+ * Token issuing and full signature verification, i.e. the cost a request pays on a verified-cache
+ * miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+  private JWTUtil jwtUtil;
+  private User user;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtUtil = BenchmarkFixtures.jwtUtil();
+    user = BenchmarkFixtures.user(42);
+    token = jwtUtil.createJwt(user, BenchmarkFixtures.ACCESS_TOKEN_MS);
+  }
+
+  @Benchmark
+  public String createJwt() {
+    return jwtUtil.createJwt(user, BenchmarkFixtures.ACCESS_TOKEN_MS);
+  }
+
+  @Benchmark
+  public JWTClaims parseClaims() {
+    return jwtUtil.parseClaims(token);
+  }
+}
@@ -0,0 +1,67 @@
+package com.projectmanage.main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.projectmanage.main.cluster.PgNotificationBus;
+import com.projectmanage.main.jwt.JWTFilter;
+import com.projectmanage.main.jwt.JWTUtil;
+import com.projectmanage.main.jwt.TokenDenyList;
+import com.projectmanage.main.jwt.TokenVersionRegistry;
+import com.projectmanage.main.jwt.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link JWTFilter} end to end on a mock request carrying a bearer token, in stateless mode so no
+ * user lookup is involved. With {@code cacheSize = 0} every request verifies the signature; the
+ * cache evicts on the calling thread, so no request can hit an entry still awaiting eviction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+  @Param({"0", "10000"})
+  private long cacheSize;
+
+  private JWTFilter filter;
+  private String authorizationHeader;
+
+  @Setup
+  public void setUp() {
+    JWTUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+    // The bus stays inert without a Postgres connection
+    PgNotificationBus notificationBus = new PgNotificationBus(null, null);
+    filter = new JWTFilter(new VerifiedTokenCache(jwtUtil, cacheSize, Runnable::run), null,
+        new TokenVersionRegistry(notificationBus, BenchmarkFixtures.ACCESS_TOKEN_MS),
+        new TokenDenyList(notificationBus, new SimpleMeterRegistry()), true);
+    authorizationHeader = "Bearer "
+        + jwtUtil.createJwt(BenchmarkFixtures.user(42), BenchmarkFixtures.ACCESS_TOKEN_MS);
+  }
+
+  @Benchmark
+  public Authentication authenticateRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+    request.addHeader("Authorization", authorizationHeader);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
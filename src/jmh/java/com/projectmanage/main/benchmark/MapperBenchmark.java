@@ -0,0 +1,64 @@
+package com.projectmanage.main.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.ProjectDTO;
+import com.projectmanage.main.model.mapper.MilestoneMapper;
+import com.projectmanage.main.model.mapper.MilestoneMapperImpl;
+import com.projectmanage.main.model.mapper.ProjectMapper;
+import com.projectmanage.main.model.mapper.ProjectMapperImpl;
+import com.projectmanage.main.model.mapper.TaskMapper;
+import com.projectmanage.main.model.mapper.TaskMapperImpl;
+
+/**
+ * Entity to DTO mapping of large, fully initialized project graphs, through the generated mapper
+ * implementations wired by hand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+  @Param({"10", "100"})
+  private int milestones;
+
+  @Param({"10", "100"})
+  private int tasksPerMilestone;
+
+  private ProjectMapper projectMapper;
+  private MilestoneMapper milestoneMapper;
+  private Project project;
+  private List<Milestone> projectMilestones;
+
+  @Setup
+  public void setUp() {
+    TaskMapper taskMapper = new TaskMapperImpl();
+    milestoneMapper = new MilestoneMapperImpl(taskMapper);
+    projectMapper = new ProjectMapperImpl(milestoneMapper, taskMapper);
+    project = BenchmarkFixtures.project(1, milestones, tasksPerMilestone);
+    projectMilestones = project.getMilestones();
+  }
+
+  @Benchmark
+  public ProjectDTO projectToDTO() {
+    return projectMapper.toDTO(project);
+  }
+
+  @Benchmark
+  public List<MilestoneDTO> milestonesToDTO() {
+    return milestoneMapper.toDTOList(projectMilestones);
+  }
+}
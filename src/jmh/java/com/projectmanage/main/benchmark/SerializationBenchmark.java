@@ -0,0 +1,56 @@
+package com.projectmanage.main.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanage.main.model.dto.ProjectDTO;
+import com.projectmanage.main.model.mapper.MilestoneMapperImpl;
+import com.projectmanage.main.model.mapper.ProjectMapper;
+import com.projectmanage.main.model.mapper.ProjectMapperImpl;
+import com.projectmanage.main.model.mapper.TaskMapper;
+import com.projectmanage.main.model.mapper.TaskMapperImpl;
+
+/**
+ * Jackson serialization of a project list response, configured like Spring Boot's HTTP message
+ * converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+  @Param({"10", "100"})
+  private int projects;
+
+  private ObjectMapper objectMapper;
+  private List<ProjectDTO> projectDTOs;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    TaskMapper taskMapper = new TaskMapperImpl();
+    ProjectMapper projectMapper =
+        new ProjectMapperImpl(new MilestoneMapperImpl(taskMapper), taskMapper);
+    projectDTOs = new ArrayList<>();
+    for (int i = 0; i < projects; i++) {
+      projectDTOs.add(projectMapper.toDTO(BenchmarkFixtures.project(i, 5, 10)));
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeProjectList() throws Exception {
+    return objectMapper.writeValueAsBytes(projectDTOs);
+  }
+}
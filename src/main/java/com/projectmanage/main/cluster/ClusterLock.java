@@ -0,0 +1,66 @@
+package com.projectmanage.main.cluster;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cluster-wide mutual exclusion backed by Postgres session-level advisory locks. The lock is held
+ * on one dedicated connection for the duration of the work, so only one of the replicas runs a
+ * given background job at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Run the work if no other replica currently holds the lock.
+   *
+   * @return the work's result, or empty when the lock is held elsewhere
+   */
+  public <T> Optional<T> runExclusively(long lockKey, Supplier<T> work) {
+    return Optional.ofNullable(jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+      if (!tryLock(connection, lockKey)) {
+        log.debug("Advisory lock {} is held by another replica, skipping", lockKey);
+        return null;
+      }
+
+      try {
+        return work.get();
+      } finally {
+        unlock(connection, lockKey);
+      }
+    }));
+  }
+
+  private boolean tryLock(Connection connection, long lockKey) throws SQLException {
+    try (PreparedStatement statement =
+        connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+      statement.setLong(1, lockKey);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private void unlock(Connection connection, long lockKey) throws SQLException {
+    try (PreparedStatement statement =
+        connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+      statement.setLong(1, lockKey);
+      statement.execute();
+    }
+  }
+}
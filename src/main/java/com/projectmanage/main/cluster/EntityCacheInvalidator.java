@@ -0,0 +1,192 @@
+package com.projectmanage.main.cluster;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.projectmanage.main.model.User;
+import com.projectmanage.main.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the per-replica Hibernate second-level caches coherent. Hibernate already invalidates the
+ * local cache on every entity write; this broadcasts the same invalidation to the other replicas
+ * over {@link PgNotificationBus} once the writing transaction commits.
+ *
+ * <p>
+ * Entity updates and deletes are picked up from Hibernate's events. Native and bulk statements
+ * bypass those, so their callers report the rows they touched through {@link #evictAfterCommit}
+ * or {@link #evictAllAfterCommit}, which evict on this replica too: the counter statements use a
+ * query space Hibernate does not clear anything for. A lost notice is bounded by the region TTL.
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator {
+
+  static final String CHANNEL = "entity_cache_evict";
+
+  private static final String ALL = "*";
+
+  // Query cache regions holding results of an entity; inserts can change them too
+  private static final Map<String, String> QUERY_REGIONS =
+      Map.of(User.class.getName(), UserRepository.EMAIL_QUERY_REGION);
+
+  // Own notices come back through the bus; Hibernate has handled those locally already
+  private final String nodeId = UUID.randomUUID().toString();
+  private final PgNotificationBus notificationBus;
+  private final SessionFactoryImplementor sessionFactory;
+
+  public EntityCacheInvalidator(PgNotificationBus notificationBus,
+      EntityManagerFactory entityManagerFactory) {
+    this.notificationBus = notificationBus;
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    notificationBus.subscribe(CHANNEL, this::onRemoteEvict);
+    registerWriteListener(
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class));
+  }
+
+  // Idempotent: a SessionFactory keeps one listener, which reports to the newest invalidator
+  private void registerWriteListener(EventListenerRegistry registry) {
+    WriteListener listener = null;
+    for (Object registered : registry.getEventListenerGroup(EventType.POST_UPDATE).listeners()) {
+      if (registered instanceof WriteListener writeListener) {
+        listener = writeListener;
+      }
+    }
+    if (listener == null) {
+      listener = new WriteListener();
+      registry.appendListeners(EventType.POST_INSERT, listener);
+      registry.appendListeners(EventType.POST_UPDATE, listener);
+      registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+    listener.invalidator = this;
+  }
+
+  /**
+   * Evict one cached row on this and the other replicas once the surrounding transaction commits.
+   */
+  public void evictAfterCommit(Class<?> entityClass, Long id) {
+    String entityName = entityClass.getName();
+    String entityId = String.valueOf(id);
+    afterCommit(() -> {
+      evictLocally(entityName, entityId);
+      publish(entityName, entityId);
+    });
+  }
+
+  /**
+   * Evict a whole entity region on this and the other replicas once the surrounding transaction
+   * commits, for statements whose affected ids are not known.
+   */
+  public void evictAllAfterCommit(Class<?> entityClass) {
+    String entityName = entityClass.getName();
+    afterCommit(() -> {
+      evictLocally(entityName, ALL);
+      publish(entityName, ALL);
+    });
+  }
+
+  // For entity writes Hibernate has already handled this replica
+  private void publishAfterCommit(String entityName, String id) {
+    afterCommit(() -> publish(entityName, id));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private void publish(String entityName, String id) {
+    notificationBus.publish(CHANNEL, nodeId + ":" + entityName + ":" + id);
+  }
+
+  // Handler of the bus channel; package-private so tests can deliver a notice
+  void onRemoteEvict(String payload) {
+    int entitySeparator = payload.indexOf(':');
+    int idSeparator = payload.lastIndexOf(':');
+    if (payload.substring(0, entitySeparator).equals(nodeId)) {
+      return;
+    }
+    String entityName = payload.substring(entitySeparator + 1, idSeparator);
+    String id = payload.substring(idSeparator + 1);
+
+    evictLocally(entityName, id);
+    log.debug("Evicted cached {} {} on notice from another replica", entityName, id);
+  }
+
+  private void evictLocally(String entityName, String id) {
+    Cache cache = sessionFactory.getCache();
+    if (ALL.equals(id)) {
+      cache.evictEntityData(entityName);
+    } else {
+      cache.evictEntityData(entityName, Long.valueOf(id));
+    }
+    String queryRegion = QUERY_REGIONS.get(entityName);
+    if (queryRegion != null) {
+      cache.evictQueryRegion(queryRegion);
+    }
+  }
+
+  private static final class WriteListener
+      implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient volatile EntityCacheInvalidator invalidator;
+
+    // New rows are in no entity cache yet, only in negative or stale query results
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+      String entityName = event.getPersister().getEntityName();
+      if (QUERY_REGIONS.containsKey(entityName)) {
+        invalidator.publishAfterCommit(entityName, String.valueOf(event.getId()));
+      }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+      if (event.getPersister().canWriteToCache()) {
+        invalidator.publishAfterCommit(event.getPersister().getEntityName(),
+            String.valueOf(event.getId()));
+      }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+      if (event.getPersister().canWriteToCache()) {
+        invalidator.publishAfterCommit(event.getPersister().getEntityName(),
+            String.valueOf(event.getId()));
+      }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+      return false;
+    }
+  }
+}
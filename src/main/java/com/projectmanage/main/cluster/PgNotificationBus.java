@@ -0,0 +1,145 @@
+package com.projectmanage.main.cluster;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Small cluster message bus on Postgres {@code LISTEN/NOTIFY}, used to keep per-replica in-memory
+ * state (deny-list, token versions) in sync without an external cache. Delivery is best effort:
+ * notifications sent while a replica's listener is reconnecting are lost, so subscribers must only
+ * carry state that also expires on its own.
+ *
+ * <p>
+ * Outside Postgres (the H2 test database) publishing is a no-op and nothing is received.
+ */
+@Slf4j
+@Component
+public class PgNotificationBus {
+
+  private static final int POLL_TIMEOUT_MS = 5000;
+  private static final long RECONNECT_DELAY_MS = 5000;
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+  // Only known once the application is ready; nothing is published before that
+  private volatile boolean supported;
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  public PgNotificationBus(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Register a handler for a channel. Subscribe during startup; the listener issues
+   * {@code LISTEN} for every channel when it connects.
+   */
+  public void subscribe(String channel, Consumer<String> handler) {
+    subscribers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(handler);
+  }
+
+  /**
+   * Send a payload to every replica, including this one. Inside a transaction the notification is
+   * only delivered on commit.
+   */
+  public void publish(String channel, String payload) {
+    if (!supported) {
+      return;
+    }
+    try {
+      jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+    } catch (Exception e) {
+      log.warn("Failed to publish notification on {}: {}", channel, e.getMessage());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    try (Connection connection = dataSource.getConnection()) {
+      supported = connection.isWrapperFor(PGConnection.class);
+    } catch (SQLException e) {
+      log.warn("Could not inspect the database connection: {}", e.getMessage());
+    }
+    if (!supported) {
+      log.info("Database is not Postgres, cluster notifications are disabled");
+      return;
+    }
+
+    running = true;
+    listenerThread = new Thread(this::listen, "pg-notification-listener");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = dataSource.getConnection()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          for (String channel : subscribers.keySet()) {
+            statement.execute("LISTEN " + channel);
+          }
+        }
+        log.info("Listening for cluster notifications on {}", subscribers.keySet());
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              dispatch(notification.getName(), notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("Cluster notification listener lost its connection: {}", e.getMessage());
+        try {
+          Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void dispatch(String channel, String payload) {
+    for (Consumer<String> handler : subscribers.getOrDefault(channel, List.of())) {
+      try {
+        handler.accept(payload);
+      } catch (Exception e) {
+        log.warn("Handler for {} failed on payload {}: {}", channel, payload, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.projectmanage.main.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Soft delete and purge settings bound from {@code app.deletion}. Soft deleted data can be restored
+ * for {@link #restoreWindow}; after that the purger removes it in chunk transactions.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.deletion")
+public class DeletionProperties {
+
+  // Tasks deleted per transaction
+  private int chunkSize = 1000;
+
+  private Duration restoreWindow = Duration.ofHours(24);
+
+  private Purger purger = new Purger();
+
+  @Data
+  public static class Purger {
+    private boolean enabled = true;
+
+    private Duration interval = Duration.ofSeconds(30);
+
+    private int chunksPerRun = 20;
+
+    // Breathing room for request traffic between chunks
+    private Duration chunkPause = Duration.ofMillis(100);
+
+    // A tombstone whose purge failed is skipped this long
+    private Duration failureBackoff = Duration.ofHours(1);
+  }
+}
@@ -0,0 +1,29 @@
+package com.projectmanage.main.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Bulk project imports bound from {@code app.imports}. Uploads are limited both as received and,
+ * when gzip-compressed, as inflated while loading.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.imports")
+public class ImportProperties {
+
+  // Upload limit; the body is spooled to a temporary file before the job starts
+  private DataSize maxSize = DataSize.ofGigabytes(1);
+
+  // Limit on what a gzip upload inflates to
+  private DataSize maxUncompressedSize = DataSize.ofGigabytes(8);
+
+  // Imports running at once per node, each holding two pooled connections
+  private int threads = 2;
+
+  // Uploads waiting beyond this are rejected with 503
+  private int queueCapacity = 8;
+}
@@ -0,0 +1,64 @@
+package com.projectmanage.main.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Caffeine-backed JCache regions for Hibernate's second-level and query caches. The cache manager
+ * is handed to Hibernate as an instance, so the regions are sized here instead of in a provider
+ * config file, and each region reports hits, misses, puts and evictions as {@code cache.*}
+ * metrics.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    // A manager of its own per application context; regions are never shared between contexts
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager(URI.create("urn:second-level-cache:" + UUID.randomUUID()),
+            getClass().getClassLoader());
+
+    properties.getRegions().forEach((region, maxEntries) -> {
+      CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+      configuration.setMaximumSize(OptionalLong.of(maxEntries));
+      configuration.setExpireAfterWrite(OptionalLong.of(properties.getTtl().toNanos()));
+      configuration.setStatisticsEnabled(true);
+      JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration),
+          Tags.of("layer", "hibernate"));
+    });
+
+    // One entry per table; bounding or expiring it would let stale query results through
+    CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+    timestamps.setStatisticsEnabled(true);
+    JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(
+        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps),
+        Tags.of("layer", "hibernate"));
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(
+      CacheManager hibernateCacheManager) {
+    return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER,
+        hibernateCacheManager);
+  }
+}
@@ -0,0 +1,26 @@
+package com.projectmanage.main.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Hibernate second-level cache regions bound from {@code app.second-level-cache}. Every region is
+ * created up front with its own entry bound; entries also expire after {@link #ttl}, which caps
+ * how long a replica can serve a row whose cluster eviction notice was lost.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.second-level-cache")
+public class SecondLevelCacheProperties {
+
+  private Duration ttl = Duration.ofMinutes(10);
+
+  // Region name to the maximum number of entries kept in it
+  private Map<String, Long> regions = new LinkedHashMap<>();
+}
@@ -8,6 +8,7 @@ import org.springframework.boot.web.server.ErrorPage;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,8 +24,13 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 import com.projectmanage.main.jwt.JWTFilter;
-import com.projectmanage.main.jwt.JWTUtil;
-import com.projectmanage.main.repository.UserRepository;
+import com.projectmanage.main.jwt.TokenDenyList;
+import com.projectmanage.main.jwt.TokenVersionRegistry;
+import com.projectmanage.main.jwt.VerifiedTokenCache;
+import com.projectmanage.main.ratelimit.RateLimitFilter;
+import com.projectmanage.main.ratelimit.RateLimitProperties;
+import com.projectmanage.main.ratelimit.RateLimiter;
+import com.projectmanage.main.service.PrincipalCache;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -34,12 +40,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-  private final JWTUtil jwtUtil;
-  private final UserRepository userRepository;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final TokenDenyList tokenDenyList;
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties rateLimitProperties;
 
   @Value("${app.cors.enabled}")
   private boolean corsEnabled;
 
+  @Value("${app.jwt.stateless}")
+  private boolean statelessAuthentication;
+
+  @Value("${app.security.bcrypt.strength}")
+  private int bcryptStrength;
+
   @Bean
   SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -62,14 +78,21 @@ public class SecurityConfig {
     http.csrf((auth) -> auth.disable());
     http.formLogin((auth) -> auth.disable());
     http.httpBasic((auth) -> auth.disable());
-    http.addFilterBefore(new JWTFilter(jwtUtil, userRepository),
-        UsernamePasswordAuthenticationFilter.class);
+    http.addFilterBefore(new JWTFilter(verifiedTokenCache, principalCache, tokenVersionRegistry,
+        tokenDenyList, statelessAuthentication), UsernamePasswordAuthenticationFilter.class);
+    if (rateLimitProperties.isEnabled()) {
+      http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties.getClientIpHeader()),
+          JWTFilter.class);
+    }
     http.authorizeHttpRequests((auth) -> {
-      auth.requestMatchers("/", "/error", "index", "/index", "/login", "/project/**").permitAll()
+      auth.requestMatchers("/api/auth/revoke", "/api/auth/users/**").hasRole("ADMIN")
+          .requestMatchers("/", "/error", "index", "/index", "/login", "/project/**").permitAll()
           .requestMatchers("/index.html").permitAll().requestMatchers("/api/auth/login").permitAll()
           .requestMatchers("/api/auth/register").permitAll().requestMatchers("/api/auth/refresh")
-          .permitAll().requestMatchers("/api/auth/status").permitAll()
-          .requestMatchers("/api/auth/user").permitAll().requestMatchers("/assets/**").permitAll()
+          .permitAll().requestMatchers("/api/auth/logout").permitAll()
+          .requestMatchers("/api/auth/status").permitAll()
+          .requestMatchers(HttpMethod.GET, "/api/auth/user").permitAll()
+          .requestMatchers("/assets/**").permitAll()
           .requestMatchers("/api/projects/**").authenticated().requestMatchers("/my")
           .hasRole("USER").anyRequest().authenticated();
     });
@@ -85,7 +108,7 @@ public class SecurityConfig {
 
   @Bean
   PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new BCryptPasswordEncoder(bcryptStrength);
   }
 
   @Bean
@@ -1,30 +1,43 @@
 package com.projectmanage.main.controller;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.exception.ServiceBusyException;
 import com.projectmanage.main.exception.TokenRefreshException;
+import com.projectmanage.main.jwt.JWTClaims;
 import com.projectmanage.main.jwt.JWTUtil;
+import com.projectmanage.main.jwt.TokenDenyList;
 import com.projectmanage.main.model.RefreshToken;
 import com.projectmanage.main.model.User;
 import com.projectmanage.main.model.dto.TokenRefreshRequest;
 import com.projectmanage.main.model.dto.TokenRefreshResponse;
+import com.projectmanage.main.model.dto.TokenRevokeRequest;
 import com.projectmanage.main.model.dto.UserDTO;
 import com.projectmanage.main.service.RefreshTokenService;
 import com.projectmanage.main.service.UserService;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,6 +50,7 @@ public class AuthController {
   private final JWTUtil jwtUtil;
   private final UserService userService;
   private final RefreshTokenService refreshTokenService;
+  private final TokenDenyList tokenDenyList;
 
   // JWT expiration: 1 hour for access token
   private static final Long JWT_EXPIRATION = 1000L * 60 * 60;
@@ -59,78 +73,34 @@ public class AuthController {
   }
 
   @PostMapping("/login")
-  public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> loginRequest,
-      HttpServletResponse response) {
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> login(
+      @RequestBody Map<String, String> loginRequest) {
     String email = loginRequest.get("email");
     String password = loginRequest.get("password");
 
     try {
-      User user = userService.authenticateUser(email, password);
-
-      // Create access token
-      String accessToken = jwtUtil.createJwt(user.getUsername(), user.getRole(), JWT_EXPIRATION);
-
-      // Create refresh token
-      RefreshToken refreshToken = refreshTokenService.createRefreshToken(user.getUsername());
-
-      // Set cookie
-      Cookie cookie = new Cookie("Authorization", accessToken);
-      cookie.setHttpOnly(true);
-      cookie.setPath("/");
-      cookie.setMaxAge(60 * 60); // 1 hour in seconds
-      response.addCookie(cookie);
-
-      // Return tokens in response for client-side storage
-      Map<String, Object> result = new HashMap<>();
-      result.put("accessToken", accessToken);
-      result.put("refreshToken", refreshToken.getToken());
-      result.put("tokenType", "Bearer");
-      result.put("authenticated", true);
-      result.put("name", user.getName());
-      result.put("email", user.getEmail());
-      result.put("picture", user.getPicture());
-
-      return ResponseEntity.ok(result);
-    } catch (Exception e) {
-      log.error("Authentication failed: {}", e.getMessage());
-      return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-          .body(Map.of("authenticated", false, "message", "Invalid email or password"));
+      // 비밀번호 검증은 해싱 풀에서, 이후 토큰 발급은 애플리케이션 executor 에서 완료
+      return userService.authenticateUser(email, password)
+          .thenApply(user -> issueTokens(user, HttpStatus.OK))
+          .exceptionally(this::authenticationFailed);
+    } catch (ServiceBusyException e) {
+      return CompletableFuture.completedFuture(serviceBusy(e));
+    } catch (AuthenticationException e) {
+      return CompletableFuture.completedFuture(authenticationFailed(e));
     }
   }
 
   @PostMapping("/register")
-  public ResponseEntity<Map<String, Object>> register(@RequestBody UserDTO userDTO,
-      HttpServletResponse response) {
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> register(
+      @RequestBody UserDTO userDTO) {
     try {
-      User user = userService.registerUser(userDTO);
-
-      // Create access token
-      String accessToken = jwtUtil.createJwt(user.getUsername(), user.getRole(), JWT_EXPIRATION);
-
-      // Create refresh token
-      RefreshToken refreshToken = refreshTokenService.createRefreshToken(user.getUsername());
-
-      // Set cookie
-      Cookie cookie = new Cookie("Authorization", accessToken);
-      cookie.setHttpOnly(true);
-      cookie.setPath("/");
-      cookie.setMaxAge(60 * 60); // 1 hour in seconds
-      response.addCookie(cookie);
-
-      // Return tokens in response for client-side storage
-      Map<String, Object> result = new HashMap<>();
-      result.put("accessToken", accessToken);
-      result.put("refreshToken", refreshToken.getToken());
-      result.put("tokenType", "Bearer");
-      result.put("authenticated", true);
-      result.put("name", user.getName());
-      result.put("email", user.getEmail());
-
-      return ResponseEntity.status(HttpStatus.CREATED).body(result);
-    } catch (Exception e) {
-      log.error("Registration failed: {}", e.getMessage());
-      return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-          .body(Map.of("authenticated", false, "message", e.getMessage()));
+      return userService.registerUser(userDTO)
+          .thenApply(user -> issueTokens(user, HttpStatus.CREATED))
+          .exceptionally(this::registrationFailed);
+    } catch (ServiceBusyException e) {
+      return CompletableFuture.completedFuture(serviceBusy(e));
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.completedFuture(registrationFailed(e));
     }
   }
 
@@ -138,15 +108,60 @@ public class AuthController {
   public ResponseEntity<?> refreshToken(@RequestBody TokenRefreshRequest request) {
     String requestRefreshToken = request.getRefreshToken();
 
-    return refreshTokenService.findByToken(requestRefreshToken)
-        .map(refreshTokenService::verifyExpiration).map(RefreshToken::getUser).map(user -> {
-          String newAccessToken =
-              jwtUtil.createJwt(user.getUsername(), user.getRole(), JWT_EXPIRATION);
+    // Every refresh rotates the session: the presented token is consumed and a new one is issued
+    return refreshTokenService.rotate(requestRefreshToken).map(rotated -> {
+      String newAccessToken = jwtUtil.createJwt(rotated.getUser(), JWT_EXPIRATION);
+
+      return ResponseEntity
+          .ok(new TokenRefreshResponse(newAccessToken, rotated.getToken(), "Bearer"));
+    }).orElseThrow(() -> new TokenRefreshException(requestRefreshToken,
+        "Refresh token is invalid, expired or already used"));
+  }
+
+  @PostMapping("/logout")
+  public ResponseEntity<Map<String, Object>> logout(Authentication authentication,
+      @RequestBody(required = false) TokenRefreshRequest request) {
+    // 현재 access token 을 만료 시까지 거부 목록에 등록
+    if (authentication != null && authentication.getDetails() instanceof JWTClaims claims
+        && claims.tokenId() != null) {
+      tokenDenyList.deny(claims.tokenId(), claims.expiration());
+    }
+
+    // 함께 전달된 refresh token 세션 폐기
+    if (request != null && request.getRefreshToken() != null) {
+      refreshTokenService.revoke(request.getRefreshToken());
+    }
+
+    ResponseCookie cookie =
+        ResponseCookie.from("Authorization", "").httpOnly(true).path("/").maxAge(0).build();
+    return ResponseEntity.ok().header(HttpHeaders.SET_COOKIE, cookie.toString())
+        .body(Map.of("authenticated", false));
+  }
+
+  @PostMapping("/revoke")
+  public ResponseEntity<Map<String, Object>> revoke(@RequestBody TokenRevokeRequest request) {
+    if (request.getTokenId() == null || request.getTokenId().isBlank()) {
+      return ResponseEntity.badRequest().body(Map.of("message", "tokenId is required"));
+    }
+
+    // 만료 시각을 알 수 없으므로 access token 최대 수명 동안 거부
+    tokenDenyList.deny(request.getTokenId(), Instant.now().plusMillis(JWT_EXPIRATION));
+    log.info("Access token {} revoked by administrator", request.getTokenId());
+    return ResponseEntity.ok(Map.of("revoked", request.getTokenId()));
+  }
 
-          return ResponseEntity
-              .ok(new TokenRefreshResponse(newAccessToken, requestRefreshToken, "Bearer"));
-        }).orElseThrow(() -> new TokenRefreshException(requestRefreshToken,
-            "Refresh token is not in database!"));
+  // 관리자: 사용자 권한 변경, 기존 access token 은 토큰 버전이 바뀌어 더 이상 인증되지 않음
+  @PutMapping("/users/{userId}/role")
+  public ResponseEntity<Map<String, Object>> changeRole(@PathVariable(name = "userId") Long userId,
+      @RequestBody Map<String, String> request) {
+    try {
+      User user = userService.changeRole(userId, request.get("role"));
+      log.info("Role of user {} set to {} by administrator", userId, user.getRole());
+      return ResponseEntity.ok(Map.of("id", user.getId(), "role", user.getRole(), "tokenVersion",
+          user.getTokenVersion()));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
   }
 
   @GetMapping("/user")
@@ -164,4 +179,87 @@ public class AuthController {
 
     return ResponseEntity.ok(userDetails);
   }
+
+  // 내 프로필 (이름, 사진) 수정, 캐시된 인증 정보도 함께 갱신
+  @PutMapping("/user")
+  public ResponseEntity<Map<String, Object>> updateUser(
+      @AuthenticationPrincipal CustomUserDetails principal, @RequestBody UserDTO userDTO) {
+    if (principal == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+          .body(Map.of("authenticated", false));
+    }
+
+    User user =
+        userService.updateProfile(principal.getUsername(), userDTO.getName(), userDTO.getPicture());
+    Map<String, Object> userDetails = new HashMap<>();
+    userDetails.put("authenticated", true);
+    userDetails.put("name", user.getName());
+    userDetails.put("email", user.getEmail());
+    userDetails.put("picture", user.getPicture());
+
+    return ResponseEntity.ok(userDetails);
+  }
+
+  private ResponseEntity<Map<String, Object>> issueTokens(User user, HttpStatus status) {
+    // Create access token
+    String accessToken = jwtUtil.createJwt(user, JWT_EXPIRATION);
+
+    // Create refresh token
+    RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
+
+    // Set cookie as a header, since the response completes on an executor thread
+    ResponseCookie cookie = ResponseCookie.from("Authorization", accessToken).httpOnly(true)
+        .path("/").maxAge(Duration.ofHours(1)).build();
+
+    // Return tokens in response for client-side storage
+    Map<String, Object> result = new HashMap<>();
+    result.put("accessToken", accessToken);
+    result.put("refreshToken", refreshToken.getToken());
+    result.put("tokenType", "Bearer");
+    result.put("authenticated", true);
+    result.put("name", user.getName());
+    result.put("email", user.getEmail());
+    result.put("picture", user.getPicture());
+
+    return ResponseEntity.status(status).header(HttpHeaders.SET_COOKIE, cookie.toString())
+        .body(result);
+  }
+
+  // Only a credential failure is a 401; anything else, a database error say, surfaces as a 500
+  private ResponseEntity<Map<String, Object>> authenticationFailed(Throwable e) {
+    Throwable cause = unwrap(e);
+    if (!(cause instanceof AuthenticationException)) {
+      throw propagate(e);
+    }
+    log.error("Authentication failed: {}", cause.getMessage());
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+        .body(Map.of("authenticated", false, "message", "Invalid email or password"));
+  }
+
+  // Only a duplicate email is a 400, whether caught up front or by the unique index on insert
+  private ResponseEntity<Map<String, Object>> registrationFailed(Throwable e) {
+    Throwable cause = unwrap(e);
+    if (cause instanceof DataIntegrityViolationException) {
+      cause = new IllegalArgumentException("Email already in use");
+    } else if (!(cause instanceof IllegalArgumentException)) {
+      throw propagate(e);
+    }
+    log.error("Registration failed: {}", cause.getMessage());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(Map.of("authenticated", false, "message", String.valueOf(cause.getMessage())));
+  }
+
+  private ResponseEntity<Map<String, Object>> serviceBusy(ServiceBusyException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(Map.of("authenticated", false, "message", e.getMessage()));
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+
+  private static RuntimeException propagate(Throwable e) {
+    return e instanceof RuntimeException runtime ? runtime : new CompletionException(e);
+  }
 }
@@ -0,0 +1,29 @@
+package com.projectmanage.main.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+// Conditional GETs keyed by a project's content version. The ETag is derived from the version
+// alone, so it is known before anything is loaded and is the same on every replica.
+final class ContentVersionResponses {
+
+  // Clients may keep the body but must revalidate it on every use
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ContentVersionResponses() {
+  }
+
+  static String eTag(String representation, Long projectId, long version) {
+    return "\"" + representation + "-" + projectId + "-" + version + "\"";
+  }
+
+  // True when the client's copy is current; a 304 has then been prepared and the handler returns
+  static boolean notModified(WebRequest request, String eTag) {
+    return request.checkNotModified(eTag);
+  }
+
+  static <T> ResponseEntity<T> ok(String eTag, T body) {
+    return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body);
+  }
+}
@@ -0,0 +1,25 @@
+package com.projectmanage.main.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.projectmanage.main.model.dto.CursorPage;
+
+// Builds cursor page responses with an RFC 8288 Link header pointing at the next page
+final class CursorPageResponses {
+
+  private CursorPageResponses() {
+  }
+
+  static <T> ResponseEntity<CursorPage<T>> ok(CursorPage<T> page) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.getNextCursor() != null) {
+      String next = ServletUriComponentsBuilder.fromCurrentRequest()
+          .replaceQueryParam("cursor", page.getNextCursor())
+          .replaceQueryParam("limit", page.getLimit()).toUriString();
+      response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+    }
+    return response.body(page);
+  }
+}
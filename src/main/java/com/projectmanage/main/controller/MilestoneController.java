@@ -12,9 +12,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import com.projectmanage.main.dto.CustomUserDetails;
 import com.projectmanage.main.model.dto.MilestoneDTO;
 import com.projectmanage.main.service.MilestoneService;
+import com.projectmanage.main.service.ProjectService;
 import com.projectmanage.main.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,12 +29,30 @@ public class MilestoneController {
 
   private final MilestoneService milestoneService;
   private final TaskService taskService;
+  private final ProjectService projectService;
 
-  // 마일스톤 목록 읽기
+  // 마일스톤 목록 읽기 (프로젝트 내용 버전이 같으면 마일스톤을 읽지 않고 304 응답)
   @PreAuthorize("isAuthenticated()")
   @GetMapping
-  public ResponseEntity<?> getAllMilestones(@PathVariable(name = "projectId") Long projectId) {
-    return ResponseEntity.ok(milestoneService.getMilestoneList(projectId));
+  public ResponseEntity<?> getAllMilestones(@PathVariable(name = "projectId") Long projectId,
+      @RequestParam(name = "view", required = false) String view, WebRequest request) {
+    // view=progress 이면 테스크 목록 없이 개수와 진행률만 응답
+    boolean progress = "progress".equals(view);
+    Long version = projectService.getContentVersion(projectId).orElse(null);
+    if (version == null) {
+      return ResponseEntity.ok(progress ? milestoneService.getMilestoneProgressList(projectId)
+          : milestoneService.getMilestoneList(projectId));
+    }
+    String eTag = ContentVersionResponses.eTag(progress ? "milestone-progress" : "milestones",
+        projectId, version);
+    if (ContentVersionResponses.notModified(request, eTag)) {
+      return null;
+    }
+    if (progress) {
+      return ContentVersionResponses.ok(eTag,
+          milestoneService.getMilestoneProgressList(projectId));
+    }
+    return ContentVersionResponses.ok(eTag, milestoneService.getMilestoneList(projectId));
   }
 
   // 마일스톤 등록하기
@@ -78,14 +98,41 @@ public class MilestoneController {
   public ResponseEntity<?> deleteMilestone(@AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable(name = "projectId") Long projectId,
       @PathVariable(name = "milestoneId") Long milestoneId ){
-    milestoneService.deleteMilestone(milestoneId, true);
-    return ResponseEntity.ok("Milestone deleted successfully");
+    // 즉시 숨김 처리 후 응답, 실제 삭제는 백그라운드에서 진행
+    return ResponseEntity.accepted().body(milestoneService.deleteMilestone(milestoneId, true));
+  }
+
+  // 삭제된 마일스톤 복구
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping("/{milestoneId}/restore")
+  public ResponseEntity<?> restoreMilestone(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "projectId") Long projectId,
+      @PathVariable(name = "milestoneId") Long milestoneId) {
+    return ResponseEntity.ok(milestoneService.restoreMilestone(milestoneId));
+  }
+
+  // 마일스톤 삭제 진행 상태
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping("/{milestoneId}/deletion")
+  public ResponseEntity<?> getDeletionStatus(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "projectId") Long projectId,
+      @PathVariable(name = "milestoneId") Long milestoneId) {
+    return ResponseEntity.ok(milestoneService.getDeletionStatus(milestoneId));
   }
 
   // 마일 스톤에 속하는 테스크 목록 읽기
   @PreAuthorize("isAuthenticated()")
   @GetMapping("/{milestoneId}/tasks")
-  public ResponseEntity<?> getTasks(@PathVariable(name = "milestoneId") Long milestoneId) {
+  public ResponseEntity<?> getTasks(@PathVariable(name = "milestoneId") Long milestoneId,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "limit", required = false) Integer limit) {
+    // cursor 또는 limit 지정 시 페이지 단위로 응답
+    if (cursor != null || limit != null) {
+      return CursorPageResponses
+          .ok(taskService.getTaskPageByMilestoneId(milestoneId, cursor, limit));
+    }
     return ResponseEntity.ok(taskService.getTasksByMilestoneId(milestoneId));
   }
 }
@@ -10,11 +10,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import com.projectmanage.main.dto.CustomUserDetails;
 import com.projectmanage.main.model.dto.ProjectDTO;
 import com.projectmanage.main.service.ProjectService;
-import com.projectmanage.main.service.UserService;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -23,12 +24,15 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
   private final ProjectService projectService;
-  private final UserService userService;
 
-  // 프로젝트 목록 읽기
+  // 프로젝트 목록 읽기 (view=summary 이면 집계값만 응답)
   @PreAuthorize("isAuthenticated()")
   @GetMapping
-  public ResponseEntity<?> getAllProjects(@AuthenticationPrincipal CustomUserDetails userDetails) {
+  public ResponseEntity<?> getAllProjects(@AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(name = "view", required = false) String view) {
+    if ("summary".equals(view)) {
+      return ResponseEntity.ok(projectService.getProjectSummariesByUser(userDetails.getUsername()));
+    }
     return ResponseEntity.ok(projectService.getProjectListByUser(userDetails.getUsername()));
   }
 
@@ -37,17 +41,25 @@ public class ProjectController {
   @PostMapping
   public ResponseEntity<?> postProject(@AuthenticationPrincipal CustomUserDetails userDetails,
       @RequestBody ProjectDTO projectDTO) {
-    projectDTO.setUserId(userService.getUserFromPrincipal(userDetails).getId());
+    projectDTO.setUserId(userDetails.getId());
     ProjectDTO newProject = projectService.addProject(projectDTO);
     return ResponseEntity.ok(newProject);
   }
 
-  // 프로젝트 하나 읽기
+  // 프로젝트 하나 읽기 (내용 버전이 같으면 엔티티를 읽지 않고 304 응답)
   @GetMapping("/{projectId}")
   public ResponseEntity<?> getProjectById(@PathVariable(name = "projectId") Long projectId,
-      @AuthenticationPrincipal CustomUserDetails userDetails) {
+      WebRequest request) {
+    Long version = projectService.getContentVersion(projectId).orElse(null);
+    if (version == null) {
+      return ResponseEntity.ok(projectService.getProjectById(projectId));
+    }
+    String eTag = ContentVersionResponses.eTag("project", projectId, version);
+    if (ContentVersionResponses.notModified(request, eTag)) {
+      return null;
+    }
     ProjectDTO projectDTO = projectService.getProjectById(projectId);
-    return ResponseEntity.ok(projectDTO);
+    return ContentVersionResponses.ok(eTag, projectDTO);
   }
 
   // 프로젝트 수정
@@ -63,7 +75,24 @@ public class ProjectController {
   @DeleteMapping("/{projectId}")
   public ResponseEntity<?> deleteProject(@AuthenticationPrincipal CustomUserDetails userDetails,
       @PathVariable(name = "projectId") Long projectId) {
-    projectService.deleteProject(projectId);
-    return ResponseEntity.ok("Project deleted successfully");
+    // 즉시 숨김 처리 후 응답, 실제 삭제는 백그라운드에서 진행
+    return ResponseEntity.accepted().body(projectService.deleteProject(projectId));
+  }
+
+  // 삭제된 프로젝트 복구
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping("/{projectId}/restore")
+  public ResponseEntity<?> restoreProject(@AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "projectId") Long projectId) {
+    return ResponseEntity.ok(projectService.restoreProject(projectId));
+  }
+
+  // 프로젝트 삭제 진행 상태
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping("/{projectId}/deletion")
+  public ResponseEntity<?> getDeletionStatus(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "projectId") Long projectId) {
+    return ResponseEntity.ok(projectService.getDeletionStatus(projectId));
   }
 }
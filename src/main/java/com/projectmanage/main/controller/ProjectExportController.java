@@ -0,0 +1,86 @@
+package com.projectmanage.main.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.service.ProjectExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/projects/{projectId}/export")
+public class ProjectExportController {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ProjectExportService projectExportService;
+
+  // Only this endpoint streams for long; other async requests keep the container's timeout
+  @Value("${app.exports.timeout}")
+  private Duration exportTimeout;
+
+  // 프로젝트 내보내기 (NDJSON 스트리밍, compress=gzip 이면 .ndjson.gz 파일로 응답)
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping
+  public WebAsyncTask<Void> exportProject(@AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "projectId") Long projectId,
+      @RequestParam(name = "compress", required = false) String compress,
+      HttpServletResponse response) {
+    boolean admin =
+        userDetails.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    // 스트림이 시작되면 상태 코드를 바꿀 수 없으므로 권한과 존재 여부를 먼저 확인
+    projectExportService.checkExportAllowed(projectId, userDetails.getId(), admin);
+
+    boolean gzip = "gzip".equals(compress);
+    String filename = "project-" + projectId + (gzip ? ".ndjson.gz" : ".ndjson");
+    response.setContentType((gzip ? GZIP : NDJSON).toString());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment().filename(filename).build().toString());
+
+    // 노드당 동시 내보내기 수 제한 (가득 차면 503), 슬롯은 요청이 어떻게 끝나든 반환
+    projectExportService.acquireExportSlot();
+    WebAsyncTask<Void> task = new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+      OutputStream out = response.getOutputStream();
+      if (gzip) {
+        GZIPOutputStream compressed = new GZIPOutputStream(out, BUFFER_SIZE);
+        writeExport(projectId, compressed);
+        compressed.finish();
+      } else {
+        writeExport(projectId, out);
+      }
+      out.flush();
+      // The body has been written; there is nothing left for a return value handler
+      return null;
+    });
+    task.onCompletion(projectExportService::releaseExportSlot);
+    return task;
+  }
+
+  // Records are small, so they are batched before they reach the (compressing) stream
+  private void writeExport(Long projectId, OutputStream out) throws IOException {
+    BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+    projectExportService.export(projectId, buffered);
+  }
+}
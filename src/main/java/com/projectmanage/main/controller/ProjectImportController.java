@@ -0,0 +1,62 @@
+package com.projectmanage.main.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Locale;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.exception.InvalidImportException;
+import com.projectmanage.main.model.ImportJob.Format;
+import com.projectmanage.main.model.dto.ImportJobDTO;
+import com.projectmanage.main.service.ProjectImportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/imports")
+public class ProjectImportController {
+
+  private final ProjectImportService projectImportService;
+
+  // 프로젝트 가져오기 (본문은 NDJSON 또는 CSV, compress=gzip 이면 압축된 파일), 작업 URL 과 함께 202 응답
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping
+  public ResponseEntity<ImportJobDTO> importProject(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(name = "format", defaultValue = "ndjson") String format,
+      @RequestParam(name = "compress", required = false) String compress, InputStream body)
+      throws IOException {
+    ImportJobDTO job = projectImportService.submit(userDetails.getId(), parseFormat(format),
+        "gzip".equals(compress), body);
+    return ResponseEntity.accepted().location(URI.create("/api/imports/" + job.getId())).body(job);
+  }
+
+  // 가져오기 진행 상태 조회
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping("/{jobId}")
+  public ResponseEntity<ImportJobDTO> getImportJob(
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "jobId") Long jobId) {
+    return ResponseEntity.ok(projectImportService.getJob(jobId, userDetails.getId()));
+  }
+
+  private static Format parseFormat(String format) {
+    try {
+      return Format.valueOf(format.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidImportException("Unsupported import format: " + format);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.projectmanage.main.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.exception.OperationFailedException;
+import com.projectmanage.main.model.dto.ProjectOperation;
+import com.projectmanage.main.service.ProjectOperationService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/projects/{projectId}/operations")
+public class ProjectOperationController {
+
+  private final ProjectOperationService projectOperationService;
+
+  // 테스크, 마일스톤, 댓글 변경 여러 건을 한 트랜잭션으로 처리 (하나라도 실패하면 전체 롤백)
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping
+  public ResponseEntity<?> applyOperations(@AuthenticationPrincipal CustomUserDetails userDetails,
+      @PathVariable(name = "projectId") Long projectId,
+      @RequestBody List<ProjectOperation> operations) {
+    boolean admin =
+        userDetails.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    try {
+      return ResponseEntity.ok(
+          projectOperationService.apply(projectId, userDetails.getId(), admin, operations));
+    } catch (OperationFailedException e) {
+      // 실패한 작업의 위치를 함께 응답
+      return ResponseEntity.badRequest()
+          .body(Map.of("message", e.getMessage(), "index", e.getIndex()));
+    }
+  }
+}
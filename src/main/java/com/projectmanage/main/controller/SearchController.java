@@ -0,0 +1,30 @@
+package com.projectmanage.main.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.service.SearchService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class SearchController {
+
+  private final SearchService searchService;
+
+  // 전문 검색 (q 는 websearch 문법: "구문", or, -제외어)
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping
+  public ResponseEntity<?> search(@AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(name = "q") String query,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "limit", required = false) Integer limit) {
+    return CursorPageResponses.ok(searchService.search(userDetails.getId(), query, cursor, limit));
+  }
+}
@@ -0,0 +1,36 @@
+package com.projectmanage.main.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.service.TaskService;
+
+import lombok.RequiredArgsConstructor;
+
+// tasks:batch is a custom method on the collection, so it cannot live under TaskController's
+// /tasks mapping (that would make it /tasks/:batch)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/projects/{projectId}")
+public class TaskBatchController {
+
+  private final TaskService taskService;
+
+  // 테스크 일괄 등록 (다른 트래커에서 백로그 가져오기 등)
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping("/tasks:batch")
+  public ResponseEntity<?> createTasks(@PathVariable(name = "projectId") Long projectId,
+      @RequestBody List<TaskDTO> taskDTOs) {
+    List<TaskDTO> createdTasks = taskService.createTasks(projectId, taskDTOs);
+    return ResponseEntity.status(HttpStatus.CREATED).body(createdTasks);
+  }
+}
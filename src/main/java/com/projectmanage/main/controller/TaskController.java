@@ -1,7 +1,9 @@
 package com.projectmanage.main.controller;
 
 import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.service.ProjectService;
 import com.projectmanage.main.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,7 +14,9 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,13 +26,26 @@ import java.util.List;
 public class TaskController {
 
   private final TaskService taskService;
+  private final ProjectService projectService;
 
-  // 테스트 목록 읽기
+  // 테스트 목록 읽기 (cursor 또는 limit 지정 시 페이지 단위로 응답)
+  // 전체 목록은 프로젝트 내용 버전이 같으면 테스크를 읽지 않고 304 응답
   @PreAuthorize("isAuthenticated()")
   @GetMapping
-  public ResponseEntity<?> getTasks(@PathVariable(name = "projectId") Long projectId) {
-    List<TaskDTO> taskDTOList = taskService.getTasksByProjectId(projectId);
-    return ResponseEntity.ok(taskDTOList);
+  public ResponseEntity<?> getTasks(@PathVariable(name = "projectId") Long projectId,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "limit", required = false) Integer limit, WebRequest request) {
+    if (cursor != null || limit != null) {
+      return CursorPageResponses.ok(taskService.getTaskPageByProjectId(projectId, cursor, limit));
+    }
+    long version = projectService.getContentVersion(projectId)
+        .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+    String eTag = ContentVersionResponses.eTag("tasks", projectId, version);
+    if (ContentVersionResponses.notModified(request, eTag)) {
+      return null;
+    }
+    List<TaskDTO> taskDTOList = taskService.getTasksByProjectId(projectId, version);
+    return ContentVersionResponses.ok(eTag, taskDTOList);
   }
 
   // 테스크 등록하기
@@ -11,17 +11,24 @@ import com.projectmanage.main.model.User;
 
 import lombok.Getter;
 
+/**
+ * Immutable snapshot of an authenticated user. Snapshots are shared between requests through the
+ * principal cache, so they must never expose mutable state.
+ */
 @Getter
 public class CustomUserDetails implements UserDetails {
 
+  private final Long id;
   private final String username;
   private final String password;
   private final String name;
   private final String picture;
   private final Collection<? extends GrantedAuthority> authorities;
   private final boolean enabled;
+  private final int tokenVersion;
 
   public CustomUserDetails(User user) {
+    this.id = user.getId();
     this.username = user.getEmail();
     this.password = user.getUsername(); // Note: In a real app, you'd store password hash
     this.name = user.getName();
@@ -29,6 +36,20 @@ public class CustomUserDetails implements UserDetails {
     this.authorities =
         Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()));
     this.enabled = true;
+    this.tokenVersion = user.getTokenVersion();
+  }
+
+  // Principal rebuilt from a self-contained access token, without touching the users table
+  public CustomUserDetails(Long id, String email, String name, String picture, String role,
+      int tokenVersion) {
+    this.id = id;
+    this.username = email;
+    this.password = email;
+    this.name = name;
+    this.picture = picture;
+    this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+    this.enabled = true;
+    this.tokenVersion = tokenVersion;
   }
 
   @Override
@@ -0,0 +1,13 @@
+package com.projectmanage.main.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class BatchTooLargeException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public BatchTooLargeException(String message) {
+    super(message);
+  }
+}
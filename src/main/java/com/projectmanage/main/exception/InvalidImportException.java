@@ -0,0 +1,13 @@
+package com.projectmanage.main.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidImportException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public InvalidImportException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,13 @@
+package com.projectmanage.main.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchQueryException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public InvalidSearchQueryException(String message) {
+    super(message);
+  }
+}
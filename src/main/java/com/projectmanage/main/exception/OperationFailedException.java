@@ -0,0 +1,24 @@
+package com.projectmanage.main.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import lombok.Getter;
+
+/**
+ * An operation of a project operations request failed and the whole request was rolled back.
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class OperationFailedException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  // Position of the failed operation, or -1 when writing the changes failed
+  private final int index;
+
+  public OperationFailedException(int index, String message) {
+    super(index < 0 ? "Saving the changes failed: " + message
+        : "Operation " + index + " failed: " + message);
+    this.index = index;
+  }
+}
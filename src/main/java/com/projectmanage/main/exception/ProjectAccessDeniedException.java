@@ -0,0 +1,13 @@
+package com.projectmanage.main.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class ProjectAccessDeniedException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public ProjectAccessDeniedException(String message) {
+    super(message);
+  }
+}
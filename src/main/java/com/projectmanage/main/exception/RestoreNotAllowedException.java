@@ -0,0 +1,13 @@
+package com.projectmanage.main.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class RestoreNotAllowedException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public RestoreNotAllowedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,43 @@
+package com.projectmanage.main.jwt;
+
+import java.time.Instant;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Verified payload of an access token. Instances are only created after the signature has been
+ * checked, so they can be cached and shared between requests.
+ *
+ * <p>
+ * Format version 1 tokens only carry {@code username}, {@code role} and {@code tokenType}. Version
+ * 2 tokens additionally carry {@code uid}, {@code name}, {@code picture} and the user's
+ * {@code tv} (token version), which is enough to build the principal without a database lookup.
+ * Tokens issued since logout support also carry a {@code jti} used by the deny-list.
+ */
+public record JWTClaims(int version, String tokenId, String username, String role,
+    String tokenType, Long userId, String name, String picture, Integer tokenVersion,
+    Instant issuedAt, Instant expiration) {
+
+  static JWTClaims from(Claims claims) {
+    Integer version = claims.get(JWTUtil.CLAIM_VERSION, Integer.class);
+    Number userId = claims.get(JWTUtil.CLAIM_USER_ID, Number.class);
+    return new JWTClaims(version != null ? version : 1, claims.getId(),
+        claims.get("username", String.class),
+        claims.get("role", String.class), claims.get("tokenType", String.class),
+        userId != null ? userId.longValue() : null,
+        claims.get(JWTUtil.CLAIM_NAME, String.class),
+        claims.get(JWTUtil.CLAIM_PICTURE, String.class),
+        claims.get(JWTUtil.CLAIM_TOKEN_VERSION, Integer.class),
+        claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+        claims.getExpiration().toInstant());
+  }
+
+  public boolean isExpired() {
+    return expiration.isBefore(Instant.now());
+  }
+
+  // True when the token carries everything needed to authenticate without the users table
+  public boolean isSelfContained() {
+    return version >= 2 && userId != null && tokenVersion != null;
+  }
+}
@@ -3,12 +3,10 @@ package com.projectmanage.main.jwt;
 import java.io.IOException;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import com.projectmanage.main.dto.CustomUserDetails;
-import com.projectmanage.main.model.User;
-import com.projectmanage.main.repository.UserRepository;
+import com.projectmanage.main.service.PrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -20,8 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
-  private final JWTUtil jwtUtil;
-  private final UserRepository userRepository;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final TokenDenyList tokenDenyList;
+  // Build the principal purely from self-contained tokens instead of the principal cache
+  private final boolean stateless;
 
   protected void doFilterInternal(@NonNull HttpServletRequest request,
       @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
@@ -64,31 +66,38 @@ public class JWTFilter extends OncePerRequestFilter {
 
     String token = authorization;
 
-    // Check if token is valid
+    // Check if token is valid (signature is verified once per token, then served from cache)
     try {
-      if (jwtUtil.isExpired(token)) {
+      JWTClaims claims = verifiedTokenCache.verify(token);
+      if (claims.isExpired()) {
         log.debug("Token is expired");
         filterChain.doFilter(request, response);
         return;
       }
 
-      String username = jwtUtil.getUsername(token);
-      String role = jwtUtil.getRole(token);
+      if (claims.tokenId() != null && tokenDenyList.isDenied(claims.tokenId())) {
+        log.debug("Token {} has been revoked", claims.tokenId());
+        filterChain.doFilter(request, response);
+        return;
+      }
+
+      String username = claims.username();
+      String role = claims.role();
 
       log.debug("Processing authenticated request for user: {} with role: {}", username, role);
 
-      User user = userRepository.findByEmail(username).orElse(null);
+      CustomUserDetails customUserDetails = resolvePrincipal(claims);
 
-      if (user == null) {
-        log.debug("User not found with email: {}", username);
+      if (customUserDetails == null) {
+        log.debug("No valid principal for user: {}", username);
         filterChain.doFilter(request, response);
         return;
       }
 
-      CustomUserDetails customUserDetails = new CustomUserDetails(user);
-
-      Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null,
-          customUserDetails.getAuthorities());
+      UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+          customUserDetails, null, customUserDetails.getAuthorities());
+      // Keep the verified claims so logout can deny this exact token
+      authToken.setDetails(claims);
 
       SecurityContextHolder.getContext().setAuthentication(authToken);
     } catch (Exception e) {
@@ -98,4 +107,26 @@ public class JWTFilter extends OncePerRequestFilter {
 
     filterChain.doFilter(request, response);
   }
+
+  private CustomUserDetails resolvePrincipal(JWTClaims claims) {
+    if (stateless && claims.isSelfContained()) {
+      if (!tokenVersionRegistry.isCurrent(claims.userId(), claims.tokenVersion())) {
+        log.debug("Token version {} of user {} has been revoked", claims.tokenVersion(),
+            claims.userId());
+        return null;
+      }
+      return new CustomUserDetails(claims.userId(), claims.username(), claims.name(),
+          claims.picture(), claims.role(), claims.tokenVersion());
+    }
+
+    // Format version 1 tokens, or stateless mode disabled: use the cached user snapshot
+    CustomUserDetails customUserDetails = principalCache.get(claims.username()).orElse(null);
+    if (customUserDetails != null && claims.tokenVersion() != null
+        && claims.tokenVersion() < customUserDetails.getTokenVersion()) {
+      log.debug("Token version {} of user {} is outdated", claims.tokenVersion(),
+          customUserDetails.getId());
+      return null;
+    }
+    return customUserDetails;
+  }
 }
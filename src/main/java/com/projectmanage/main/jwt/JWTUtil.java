@@ -2,6 +2,7 @@ package com.projectmanage.main.jwt;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -9,11 +10,24 @@ import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.projectmanage.main.model.User;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 @Component
 public class JWTUtil {
+  static final int TOKEN_FORMAT_VERSION = 2;
+  static final String CLAIM_VERSION = "ver";
+  static final String CLAIM_USER_ID = "uid";
+  static final String CLAIM_NAME = "name";
+  static final String CLAIM_PICTURE = "picture";
+  static final String CLAIM_TOKEN_VERSION = "tv";
+
   private SecretKey secretKey;
+  // Parsers are immutable and thread-safe, so one instance serves every request
+  private final JwtParser jwtParser;
 
   @Value("${app.jwt.access-token.expiration}")
   private Long accessTokenDurationMs;
@@ -21,21 +35,28 @@ public class JWTUtil {
   public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
     secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
         Jwts.SIG.HS256.key().build().getAlgorithm());
+    jwtParser = Jwts.parser().verifyWith(secretKey).build();
+  }
+
+  /**
+   * Verify the signature once and return every claim the application reads.
+   *
+   * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+   */
+  public JWTClaims parseClaims(String token) {
+    return JWTClaims.from(jwtParser.parseSignedClaims(token).getPayload());
   }
 
   public String getUsername(String token) {
-    return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-        .get("username", String.class);
+    return parseClaims(token).username();
   }
 
   public String getRole(String token) {
-    return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-        .get("role", String.class);
+    return parseClaims(token).role();
   }
 
   public Boolean isExpired(String token) {
-    return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-        .getExpiration().before(new Date());
+    return parseClaims(token).isExpired();
   }
 
   // Create an access token with default expiration
@@ -43,10 +64,38 @@ public class JWTUtil {
     return createJwt(username, role, accessTokenDurationMs);
   }
 
-  // Original method maintained for backward compatibility
+  // Create a self-contained (format version 2) access token with default expiration
+  public String createAccessToken(User user) {
+    return createJwt(user, accessTokenDurationMs);
+  }
+
+  /**
+   * Create a format version 2 access token. Besides the version 1 claims it embeds the user id,
+   * display name, avatar and token version, so consumers never have to load the user.
+   */
+  public String createJwt(User user, Long expiredMs) {
+    JwtBuilder builder = Jwts.builder().claim(CLAIM_VERSION, TOKEN_FORMAT_VERSION)
+        .claim("username", user.getUsername()).claim("role", user.getRole())
+        .claim("tokenType", "ACCESS").claim(CLAIM_USER_ID, user.getId())
+        .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+
+    if (user.getName() != null) {
+      builder.claim(CLAIM_NAME, user.getName());
+    }
+    if (user.getPicture() != null) {
+      builder.claim(CLAIM_PICTURE, user.getPicture());
+    }
+
+    return builder.id(UUID.randomUUID().toString())
+        .issuedAt(new Date(System.currentTimeMillis()))
+        .expiration(new Date(System.currentTimeMillis() + expiredMs)).signWith(secretKey).compact();
+  }
+
+  // Original method maintained for backward compatibility (format version 1, no "ver" claim)
   public String createJwt(String username, String role, Long expiredMs) {
     return Jwts.builder().claim("username", username).claim("role", role)
-        .claim("tokenType", "ACCESS").issuedAt(new Date(System.currentTimeMillis()))
+        .claim("tokenType", "ACCESS").id(UUID.randomUUID().toString())
+        .issuedAt(new Date(System.currentTimeMillis()))
         .expiration(new Date(System.currentTimeMillis() + expiredMs)).signWith(secretKey).compact();
   }
 }
@@ -0,0 +1,94 @@
+package com.projectmanage.main.jwt;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.projectmanage.main.cluster.PgNotificationBus;
+import com.projectmanage.main.util.TimingWheel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory deny-list of revoked access token ids ({@code jti}). Lookups are a single hash probe;
+ * each entry is dropped by a timing wheel once the token would have expired anyway, so the list
+ * only ever holds revoked tokens that are still live. Revocations are broadcast to the other
+ * replicas over {@link PgNotificationBus}.
+ */
+@Slf4j
+@Component
+public class TokenDenyList {
+
+  static final String CHANNEL = "token_deny";
+
+  private static final int WHEEL_SLOTS = 64;
+  private static final int WHEEL_LEVELS = 3;
+  private static final long WHEEL_TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  // Token id to expiry (epoch millis)
+  private final ConcurrentHashMap<String, Long> denied = new ConcurrentHashMap<>();
+  private final TimingWheel<String> expiryWheel;
+  private final PgNotificationBus notificationBus;
+
+  public TokenDenyList(PgNotificationBus notificationBus, MeterRegistry meterRegistry) {
+    this.notificationBus = notificationBus;
+    this.expiryWheel =
+        new TimingWheel<>(WHEEL_SLOTS, WHEEL_LEVELS, WHEEL_TICK_NANOS, System.nanoTime());
+    notificationBus.subscribe(CHANNEL, this::onRemoteDeny);
+    Gauge.builder("auth.token_deny_list.size", denied, ConcurrentHashMap::size)
+        .description("Revoked access tokens that have not expired yet").register(meterRegistry);
+  }
+
+  /**
+   * Reject the token on every replica until it expires.
+   */
+  public void deny(String tokenId, Instant expiresAt) {
+    if (add(tokenId, expiresAt.toEpochMilli())) {
+      notificationBus.publish(CHANNEL, tokenId + ":" + expiresAt.toEpochMilli());
+    }
+  }
+
+  public boolean isDenied(String tokenId) {
+    return denied.containsKey(tokenId);
+  }
+
+  @Scheduled(fixedRate = 1, timeUnit = TimeUnit.SECONDS)
+  public void expireEntries() {
+    expiryWheel.advance(System.nanoTime(), tokenId -> {
+      Long expiresAt = denied.get(tokenId);
+      if (expiresAt == null) {
+        return;
+      }
+      long remainingMillis = expiresAt - System.currentTimeMillis();
+      if (remainingMillis <= 0) {
+        denied.remove(tokenId, expiresAt);
+      } else {
+        // The wall clock moved against the monotonic clock, check again later
+        expiryWheel.schedule(tokenId,
+            System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+      }
+    });
+  }
+
+  private void onRemoteDeny(String payload) {
+    int separator = payload.lastIndexOf(':');
+    add(payload.substring(0, separator), Long.parseLong(payload.substring(separator + 1)));
+  }
+
+  // Returns false when the token was already listed or has already expired
+  private boolean add(String tokenId, long expiresAtMillis) {
+    long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+    if (remainingMillis <= 0 || denied.putIfAbsent(tokenId, expiresAtMillis) != null) {
+      return false;
+    }
+    expiryWheel.schedule(tokenId,
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+    log.debug("Denied token {} until {}", tokenId, Instant.ofEpochMilli(expiresAtMillis));
+    return true;
+  }
+}
@@ -0,0 +1,50 @@
+package com.projectmanage.main.jwt;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanage.main.cluster.PgNotificationBus;
+
+/**
+ * Latest token version of users whose tokens were invalidated recently. Stateless authentication
+ * consults this map instead of the users table; entries only need to outlive the access tokens
+ * they invalidate, so they expire after one access-token lifetime. Bumps are broadcast to the
+ * other replicas over {@link PgNotificationBus}.
+ */
+@Component
+public class TokenVersionRegistry {
+
+  static final String CHANNEL = "token_version";
+
+  private final Cache<Long, Integer> versions;
+  private final PgNotificationBus notificationBus;
+
+  public TokenVersionRegistry(PgNotificationBus notificationBus,
+      @Value("${app.jwt.access-token.expiration}") Long accessTokenMs) {
+    this.notificationBus = notificationBus;
+    this.versions =
+        Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(accessTokenMs)).build();
+    notificationBus.subscribe(CHANNEL, this::onRemoteRecord);
+  }
+
+  public void record(Long userId, int tokenVersion) {
+    versions.asMap().merge(userId, tokenVersion, Math::max);
+    notificationBus.publish(CHANNEL, userId + ":" + tokenVersion);
+  }
+
+  // Tokens issued before the last known bump for the user are no longer valid
+  public boolean isCurrent(Long userId, int tokenVersion) {
+    Integer latest = versions.getIfPresent(userId);
+    return latest == null || tokenVersion >= latest;
+  }
+
+  private void onRemoteRecord(String payload) {
+    int separator = payload.indexOf(':');
+    versions.asMap().merge(Long.parseLong(payload.substring(0, separator)),
+        Integer.parseInt(payload.substring(separator + 1)), Math::max);
+  }
+}
@@ -0,0 +1,82 @@
+package com.projectmanage.main.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded cache of access tokens whose signature has already been verified, keyed by the raw token
+ * string. Each entry lives exactly until the token's own expiration, so a repeated request with the
+ * same token skips HMAC verification entirely.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final JWTUtil jwtUtil;
+  private final Cache<String, JWTClaims> cache;
+
+  @Autowired
+  public VerifiedTokenCache(JWTUtil jwtUtil,
+      @Value("${app.jwt.verified-cache.max-size}") long maxSize) {
+    this(jwtUtil, maxSize, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Eviction runs on {@code maintenanceExecutor}; pass {@code Runnable::run} to have it happen
+   * synchronously, so the cache never briefly holds more than {@code maxSize} entries.
+   */
+  public VerifiedTokenCache(JWTUtil jwtUtil, long maxSize, Executor maintenanceExecutor) {
+    this.jwtUtil = jwtUtil;
+    this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new TokenExpiry())
+        .executor(maintenanceExecutor).build();
+  }
+
+  /**
+   * Return the claims of a token, verifying its signature only on the first sighting.
+   *
+   * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+   */
+  public JWTClaims verify(String token) {
+    JWTClaims cached = cache.getIfPresent(token);
+    if (cached != null && !cached.isExpired()) {
+      return cached;
+    }
+
+    JWTClaims claims = jwtUtil.parseClaims(token);
+    cache.put(token, claims);
+    return claims;
+  }
+
+  public void invalidate(String token) {
+    cache.invalidate(token);
+  }
+
+  // Entries expire together with the token they were created from
+  private static final class TokenExpiry implements Expiry<String, JWTClaims> {
+    @Override
+    public long expireAfterCreate(String token, JWTClaims claims, long currentTime) {
+      return Math.max(0L, Duration.between(Instant.now(), claims.expiration()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, JWTClaims claims, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(token, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String token, JWTClaims claims, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
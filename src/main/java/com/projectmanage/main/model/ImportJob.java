@@ -0,0 +1,115 @@
+package com.projectmanage.main.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A bulk project import. The row is written in its own short transactions while the import runs,
+ * so progress is visible long before the imported project is; that appears all at once when the
+ * import's transaction commits.
+ */
+@Entity
+@Table(name = "import_jobs",
+    indexes = @Index(name = "idx_import_jobs_user", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJob {
+
+  public enum Status {
+    // Spooled, waiting for a worker
+    QUEUED,
+    // Copying the file into the staging table
+    LOADING,
+    // Inserting the staged rows with new ids
+    INSERTING,
+    COMPLETED,
+    // Nothing was imported, see error
+    FAILED
+  }
+
+  public enum Format {
+    NDJSON, CSV
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_jobs_seq")
+  @SequenceGenerator(name = "import_jobs_seq", sequenceName = "import_jobs_seq",
+      allocationSize = 50)
+  private Long id;
+
+  // The importing user, who owns the new project
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Status status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Format format;
+
+  // Size of the upload as received (compressed when gzip) and how much of it has been read
+  @Column(name = "total_bytes", nullable = false)
+  private long totalBytes;
+
+  @Column(name = "processed_bytes", nullable = false)
+  private long processedBytes;
+
+  @Column(name = "staged_rows", nullable = false)
+  private long stagedRows;
+
+  @Column(name = "milestone_count", nullable = false)
+  private long milestoneCount;
+
+  @Column(name = "task_count", nullable = false)
+  private long taskCount;
+
+  @Column(name = "comment_count", nullable = false)
+  private long commentCount;
+
+  // The new project, set once the import has committed
+  @Column(name = "project_id")
+  private Long projectId;
+
+  @Column(length = 1000)
+  private String error;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+    updatedAt = LocalDateTime.now();
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    updatedAt = LocalDateTime.now();
+  }
+}
@@ -3,6 +3,10 @@ package com.projectmanage.main.model;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,11 +14,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,7 +28,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "milestones")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "milestones")
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "milestones",
+    indexes = {@Index(name = "idx_milestones_project", columnList = "project_id"),
+        @Index(name = "idx_milestones_deleted_at", columnList = "deleted_at")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +40,8 @@ import lombok.NoArgsConstructor;
 public class Milestone {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "milestones_seq")
+  @SequenceGenerator(name = "milestones_seq", sequenceName = "milestones_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -51,6 +62,21 @@ public class Milestone {
   @Builder.Default
   private List<Task> tasks = new ArrayList<>();
 
+  // Maintained by TaskService with atomic increments, repaired by ProgressCounterReconciler;
+  // never written through the entity
+  @ColumnDefault("0")
+  @Column(name = "task_count", nullable = false, insertable = false, updatable = false)
+  private int taskCount;
+
+  @ColumnDefault("0")
+  @Column(name = "completed_count", nullable = false, insertable = false, updatable = false)
+  private int completedCount;
+
+  // Soft delete tombstone, set and cleared only by bulk statements; the purger removes the row
+  // once the restore window has passed
+  @Column(name = "deleted_at", insertable = false, updatable = false)
+  private LocalDateTime deletedAt;
+
   @Column(name = "created_at", nullable = true)
   private LocalDateTime createdAt;
 
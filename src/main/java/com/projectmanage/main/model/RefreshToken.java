@@ -4,19 +4,28 @@ import java.time.Instant;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * One refresh token session. A user may hold several sessions (one per device), capped per user;
+ * only the SHA-256 hash of the opaque token is stored.
+ */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_token_sessions", indexes = {
+    @Index(name = "idx_refresh_token_sessions_expiry_date", columnList = "expiry_date"),
+    @Index(name = "idx_refresh_token_sessions_user_created", columnList = "user_id, created_at")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,13 +35,22 @@ public class RefreshToken {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false, unique = true)
+  // Hex-encoded SHA-256 of the token handed to the client
+  @Column(name = "token_hash", nullable = false, unique = true, length = 64,
+      columnDefinition = "char(64)")
+  private String tokenHash;
+
+  // Raw token, only populated right after issuing so it can be returned to the client
+  @Transient
   private String token;
 
-  @Column(nullable = false)
+  @Column(name = "expiry_date", nullable = false)
   private Instant expiryDate;
 
-  @OneToOne
-  @JoinColumn(name = "user_id", referencedColumnName = "id")
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
   private User user;
 }
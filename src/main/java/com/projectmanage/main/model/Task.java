@@ -5,18 +5,22 @@ import java.util.List;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +28,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tasks")
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_project_updated", columnList = "project_id, updated_at DESC, id DESC"),
+    @Index(name = "idx_tasks_milestone_updated",
+        columnList = "milestone_id, updated_at DESC, id DESC")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,7 +40,10 @@ import lombok.NoArgsConstructor;
 public class Task {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  // Pooled sequence (synced in schema-postgresql.sql): one round-trip per 50 ids, and unlike
+  // IDENTITY it lets Hibernate batch the inserts
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+  @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -59,6 +70,11 @@ public class Task {
   @Column(name = "due_date")
   private LocalDate dueDate;
 
+  // Soft delete tombstone, set and cleared only by bulk statements; the purger removes the row
+  // once the restore window has passed
+  @Column(name = "deleted_at", insertable = false, updatable = false)
+  private LocalDateTime deletedAt;
+
   @Column(name = "created_at", nullable = false)
   private LocalDateTime createdAt;
 
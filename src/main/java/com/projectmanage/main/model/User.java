@@ -1,5 +1,8 @@
 package com.projectmanage.main.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +15,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
 @Data
 @NoArgsConstructor
@@ -35,4 +39,10 @@ public class User {
   private String username;
 
   private String password;
+
+  // Bumped on role changes; access tokens carrying an older value are rejected
+  @ColumnDefault("0")
+  @Column(name = "token_version", nullable = false)
+  @Builder.Default
+  private int tokenVersion = 0;
 }
@@ -0,0 +1,25 @@
+package com.projectmanage.main.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rows removed by one purge call, per table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletionResult {
+
+  private long projects;
+  private long milestones;
+  private long tasks;
+  private long comments;
+  // Transactions used, counted against the purger's per-run budget
+  private int chunks;
+  // False when the chunk budget ran out before the parent row could be deleted
+  private boolean complete;
+}
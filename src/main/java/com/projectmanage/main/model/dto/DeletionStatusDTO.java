@@ -0,0 +1,36 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where a soft deleted project or milestone is on its way to being purged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletionStatusDTO {
+
+  public enum State {
+    // Not deleted
+    ACTIVE,
+    // Hidden, can still be restored
+    RESTORABLE,
+    // Restore window passed, waiting for or being removed by the purger
+    PURGING,
+    // Gone; also reported for ids that never existed
+    PURGED
+  }
+
+  private Long id;
+  private State state;
+  private LocalDateTime deletedAt;
+  private LocalDateTime restorableUntil;
+  // Task rows still in the database, including tombstoned ones
+  private long remainingTasks;
+}
@@ -0,0 +1,16 @@
+package com.projectmanage.main.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One line of a project export (NDJSON). The {@code type} property names the record; ids are the
+ * exporting database's and only relate the lines of one file to each other.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({@JsonSubTypes.Type(ExportedProject.class),
+    @JsonSubTypes.Type(ExportedMilestone.class), @JsonSubTypes.Type(ExportedTask.class),
+    @JsonSubTypes.Type(ExportedComment.class)})
+public sealed interface ExportRecord
+    permits ExportedProject, ExportedMilestone, ExportedTask, ExportedComment {
+}
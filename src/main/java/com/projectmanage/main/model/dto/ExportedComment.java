@@ -0,0 +1,11 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+// Written after every task; userId is the author's id in the exporting database
+@JsonTypeName("comment")
+public record ExportedComment(Long id, Long taskId, Long userId, String content,
+    LocalDateTime createdAt, LocalDateTime updatedAt) implements ExportRecord {
+}
@@ -0,0 +1,10 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+@JsonTypeName("milestone")
+public record ExportedMilestone(Long id, String title, String description, boolean completed,
+    LocalDateTime createdAt, LocalDateTime updatedAt) implements ExportRecord {
+}
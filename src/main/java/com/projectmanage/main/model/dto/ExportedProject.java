@@ -0,0 +1,11 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+// First line of an export
+@JsonTypeName("project")
+public record ExportedProject(Long id, String title, String description,
+    LocalDateTime createdAt, LocalDateTime updatedAt) implements ExportRecord {
+}
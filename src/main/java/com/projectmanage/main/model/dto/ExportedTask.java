@@ -0,0 +1,13 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+// Written after every milestone, so milestoneId always refers to an earlier line
+@JsonTypeName("task")
+public record ExportedTask(Long id, Long milestoneId, String title, String description,
+    boolean completed, LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt)
+    implements ExportRecord {
+}
@@ -0,0 +1,37 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import com.projectmanage.main.model.ImportJob.Format;
+import com.projectmanage.main.model.ImportJob.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of a bulk project import as returned by {@code GET /api/imports/{id}}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobDTO {
+
+  private Long id;
+  private Status status;
+  private Format format;
+  private long totalBytes;
+  private long processedBytes;
+  // Rows copied into the staging table; known once loading has finished
+  private long stagedRows;
+  private long milestoneCount;
+  private long taskCount;
+  private long commentCount;
+  private Long projectId;
+  private String error;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+  private LocalDateTime finishedAt;
+}
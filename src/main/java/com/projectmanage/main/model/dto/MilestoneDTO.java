@@ -21,6 +21,9 @@ public class MilestoneDTO {
   private boolean completed;
   @Builder.Default
   private List<TaskDTO> tasks = new ArrayList<>();
+  // Read-only progress counters, ignored on writes
+  private int taskCount;
+  private int completedCount;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 }
@@ -0,0 +1,30 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Milestone list entry with task counts instead of the embedded task list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MilestoneProgressDTO {
+
+  private Long id;
+  private String title;
+  private String description;
+  private Long projectId;
+  private boolean completed;
+  private long taskCount;
+  private long completedTaskCount;
+  // Completed tasks in percent, rounded down; 0 for a milestone without tasks
+  private int progressPercent;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+}
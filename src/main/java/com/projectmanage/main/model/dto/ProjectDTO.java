@@ -23,6 +23,9 @@ public class ProjectDTO {
   private List<MilestoneDTO> milestones = new ArrayList<>();
   @Builder.Default
   private List<TaskDTO> tasks = new ArrayList<>();
+  // Read-only progress counters, ignored on writes
+  private int taskCount;
+  private int completedCount;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 }
@@ -0,0 +1,33 @@
+package com.projectmanage.main.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One create, update or delete in a project operations request. Only the payload matching the
+ * target is read, and none for deletes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectOperation {
+
+  public enum Action {
+    CREATE, UPDATE, DELETE
+  }
+
+  public enum Target {
+    TASK, MILESTONE, COMMENT
+  }
+
+  private Action action;
+  private Target target;
+  // Row to update or delete
+  private Long id;
+  private TaskDTO task;
+  private MilestoneDTO milestone;
+  private CommentDTO comment;
+}
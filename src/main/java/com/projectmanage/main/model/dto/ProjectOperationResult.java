@@ -0,0 +1,26 @@
+package com.projectmanage.main.model.dto;
+
+import com.projectmanage.main.model.dto.ProjectOperation.Action;
+import com.projectmanage.main.model.dto.ProjectOperation.Target;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one operation, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectOperationResult {
+
+  private int index;
+  private Action action;
+  private Target target;
+  private Long id;
+  // TaskDTO, MilestoneDTO or CommentDTO after the change; null for deletes
+  private Object data;
+}
@@ -0,0 +1,27 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Project list entry without the milestone and task trees, built from an aggregate query row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSummaryDTO {
+
+  private Long id;
+  private String title;
+  private String description;
+  private long milestoneCount;
+  private long taskCount;
+  private long completedCount;
+  // Latest update of the project, its milestones or its tasks
+  private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,25 @@
+package com.projectmanage.main.model.dto;
+
+import java.time.LocalDateTime;
+
+// Row of ProjectRepository.findSummariesByUserEmail; ProjectService folds it into a summary
+public interface ProjectSummaryRow {
+
+  Long getId();
+
+  String getTitle();
+
+  String getDescription();
+
+  Long getMilestoneCount();
+
+  int getTaskCount();
+
+  int getCompletedCount();
+
+  LocalDateTime getProjectUpdatedAt();
+
+  LocalDateTime getLastMilestoneUpdate();
+
+  LocalDateTime getLastTaskUpdate();
+}
@@ -0,0 +1,31 @@
+package com.projectmanage.main.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One full-text search hit. {@code title} and {@code snippet} are HTML-escaped with the matched
+ * words wrapped in {@code <mark>} tags.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDTO {
+
+  public enum Kind {
+    COMMENT, MILESTONE, TASK
+  }
+
+  private Kind kind;
+  private Long id;
+  private Long projectId;
+  // The task itself, or the task a comment belongs to; null for milestones
+  private Long taskId;
+  // Null for comments
+  private String title;
+  private String snippet;
+  private float score;
+}
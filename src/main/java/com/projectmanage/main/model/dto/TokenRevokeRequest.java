@@ -0,0 +1,15 @@
+package com.projectmanage.main.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevokeRequest {
+  // jti claim of the access token to revoke
+  private String tokenId;
+}
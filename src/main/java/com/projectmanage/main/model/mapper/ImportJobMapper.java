@@ -0,0 +1,11 @@
+package com.projectmanage.main.model.mapper;
+
+import org.mapstruct.Mapper;
+import com.projectmanage.main.model.ImportJob;
+import com.projectmanage.main.model.dto.ImportJobDTO;
+
+@Mapper(config = MappingSettings.class)
+public interface ImportJobMapper {
+
+  ImportJobDTO toDTO(ImportJob importJob);
+}
@@ -0,0 +1,17 @@
+package com.projectmanage.main.model.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueCheckStrategy;
+
+/**
+ * Settings shared by the generated mappers. The implementations are Spring beans wired through
+ * their constructors, and a null source value leaves the target's default in place (the builders
+ * default every list to an empty one).
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+    nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
+public interface MappingSettings {
+}
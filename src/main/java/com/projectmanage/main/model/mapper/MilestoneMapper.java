@@ -1,56 +1,51 @@
 package com.projectmanage.main.model.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import org.springframework.stereotype.Component;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
 import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.MilestoneProgressDTO;
 import com.projectmanage.main.model.dto.TaskDTO;
-import com.projectmanage.main.repository.ProjectRepository;
-import lombok.RequiredArgsConstructor;
 
-@Component
-@RequiredArgsConstructor
-public class MilestoneMapper {
-
-  private final ProjectRepository projectRepository;
-  private final TaskMapper taskMapper;
-
-  public MilestoneDTO toDTO(Milestone milestone) {
-    if (milestone == null) {
-      return null;
-    }
-
-    List<TaskDTO> tasks = milestone.getTasks() != null
-        ? milestone.getTasks().stream().map(taskMapper::toDTO).collect(Collectors.toList())
-        : List.of();
-
-    return MilestoneDTO.builder().id(milestone.getId()).title(milestone.getTitle())
-        .description(milestone.getDescription()).projectId(milestone.getProject().getId())
-        .completed(milestone.isCompleted()).tasks(tasks).createdAt(milestone.getCreatedAt())
-        .updatedAt(milestone.getUpdatedAt()).build();
-  }
-
-  public List<MilestoneDTO> toDTOList(List<Milestone> milestones) {
-    return milestones.stream().map(this::toDTO).collect(Collectors.toList());
-  }
-
-  public Milestone toEntity(MilestoneDTO milestoneDTO) {
-    if (milestoneDTO == null) {
-      return null;
-    }
-
-    Milestone.MilestoneBuilder builder = Milestone.builder().title(milestoneDTO.getTitle())
-        .description(milestoneDTO.getDescription()).completed(milestoneDTO.isCompleted());
-
-    if (milestoneDTO.getId() != null) {
-      builder.id(milestoneDTO.getId());
-    }
-
-    if (milestoneDTO.getProjectId() != null) {
-      projectRepository.findById(milestoneDTO.getProjectId()).ifPresent(builder::project);
-    }
-
-    return builder.build();
+@Mapper(config = MappingSettings.class, uses = TaskMapper.class)
+public interface MilestoneMapper {
+
+  @Mapping(target = "projectId", source = "project.id")
+  MilestoneDTO toDTO(Milestone milestone);
+
+  // Map with tasks that were loaded separately, without touching the lazy tasks collection
+  @Mapping(target = "projectId", source = "milestone.project.id")
+  @Mapping(target = "tasks", source = "tasks")
+  MilestoneDTO toDTO(Milestone milestone, List<TaskDTO> tasks);
+
+  // Progress straight from the maintained counters, without touching the tasks
+  @Mapping(target = "projectId", source = "project.id")
+  @Mapping(target = "completedTaskCount", source = "completedCount")
+  @Mapping(target = "progressPercent", expression = "java(progressPercent(milestone))")
+  MilestoneProgressDTO toProgressDTO(Milestone milestone);
+
+  List<MilestoneDTO> toDTOList(List<Milestone> milestones);
+
+  @BeanMapping(ignoreByDefault = true)
+  @Mapping(target = "title", source = "milestoneDTO.title")
+  @Mapping(target = "description", source = "milestoneDTO.description")
+  @Mapping(target = "completed", source = "milestoneDTO.completed")
+  @Mapping(target = "project", source = "project")
+  Milestone toEntity(MilestoneDTO milestoneDTO, Project project);
+
+  // Copy the editable fields onto a managed milestone; the project never changes here
+  @BeanMapping(ignoreByDefault = true)
+  @Mapping(target = "title", source = "title")
+  @Mapping(target = "description", source = "description")
+  @Mapping(target = "completed", source = "completed")
+  void updateEntity(MilestoneDTO milestoneDTO, @MappingTarget Milestone milestone);
+
+  default int progressPercent(Milestone milestone) {
+    int taskCount = milestone.getTaskCount();
+    return taskCount == 0 ? 0 : (int) ((long) milestone.getCompletedCount() * 100 / taskCount);
   }
 }
@@ -1,74 +1,33 @@
 package com.projectmanage.main.model.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.User;
 import com.projectmanage.main.model.dto.ProjectDTO;
-import com.projectmanage.main.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
+@Mapper(config = MappingSettings.class, uses = {MilestoneMapper.class, TaskMapper.class})
+public interface ProjectMapper {
 
-@Component
-@RequiredArgsConstructor
-public class ProjectMapper {
+  @Mapping(target = "userId", source = "user.id")
+  ProjectDTO toDTO(Project project);
 
-  private final UserRepository userRepository;
-  private final MilestoneMapper milestoneMapper;
-  private final TaskMapper taskMapper;
+  List<ProjectDTO> toDTOList(List<Project> projects);
 
-  public ProjectDTO toDTO(Project project) {
-    if (project == null) {
-      return null;
-    }
+  @BeanMapping(ignoreByDefault = true)
+  @Mapping(target = "title", source = "projectDTO.title")
+  @Mapping(target = "description", source = "projectDTO.description")
+  @Mapping(target = "user", source = "user")
+  Project toEntity(ProjectDTO projectDTO, User user);
 
-    ProjectDTO.ProjectDTOBuilder builder =
-        ProjectDTO.builder().id(project.getId()).title(project.getTitle())
-            .description(project.getDescription()).userId(project.getUser().getId())
-            .createdAt(project.getCreatedAt()).updatedAt(project.getUpdatedAt());
-
-    // Safely handle milestones that might be null
-    if (project.getMilestones() != null) {
-      builder.milestones(project.getMilestones().stream().map(milestoneMapper::toDTO)
-          .collect(Collectors.toList()));
-    } else {
-      builder.milestones(List.of());
-    }
-
-    // Safely handle tasks that might be null
-    if (project.getTasks() != null) {
-      builder
-          .tasks(project.getTasks().stream().map(taskMapper::toDTO).collect(Collectors.toList()));
-    } else {
-      builder.tasks(List.of());
-    }
-
-    return builder.build();
-  }
-
-  public List<ProjectDTO> toDTOList(List<Project> projects) {
-    return projects.stream().map(this::toDTO).collect(Collectors.toList());
-  }
-
-  public Project toEntity(ProjectDTO projectDTO) {
-    if (projectDTO == null) {
-      return null;
-    }
-
-    Project.ProjectBuilder builder =
-        Project.builder().title(projectDTO.getTitle()).description(projectDTO.getDescription())
-            .createdAt(projectDTO.getCreatedAt()).updatedAt(projectDTO.getUpdatedAt());
-
-    if (projectDTO.getId() != null) {
-      builder.id(projectDTO.getId());
-    }
-
-    if (projectDTO.getUserId() != null) {
-      userRepository.findById(projectDTO.getUserId()).ifPresent(builder::user);
-    }
-
-    return builder.build();
-  }
+  // Copy the editable fields onto a managed project; owner and children are left alone
+  @BeanMapping(ignoreByDefault = true)
+  @Mapping(target = "title", source = "title")
+  @Mapping(target = "description", source = "description")
+  void updateEntity(ProjectDTO projectDTO, @MappingTarget Project project);
 }
@@ -1,66 +1,35 @@
 package com.projectmanage.main.model.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
 import com.projectmanage.main.model.Task;
 import com.projectmanage.main.model.dto.TaskDTO;
-import com.projectmanage.main.repository.MilestoneRepository;
-import com.projectmanage.main.repository.ProjectRepository;
 
-import lombok.RequiredArgsConstructor;
-
-@Component
-@RequiredArgsConstructor
-public class TaskMapper {
-
-  private final ProjectRepository projectRepository;
-  private final MilestoneRepository milestoneRepository;
-
-  public TaskDTO toDTO(Task task) {
-    if (task == null) {
-      return null;
-    }
-
-    TaskDTO.TaskDTOBuilder builder = TaskDTO.builder().id(task.getId()).title(task.getTitle())
-        .description(task.getDescription()).completed(task.isCompleted())
-        .projectId(task.getProject().getId()).dueDate(task.getDueDate())
-        .createdAt(task.getCreatedAt()).updatedAt(task.getUpdatedAt());
-
-    if (task.getMilestone() != null) {
-      builder.milestoneId(task.getMilestone().getId());
-    }
-
-    return builder.build();
-  }
-
-  public List<TaskDTO> toDTOList(List<Task> tasks) {
-    return tasks.stream().map(this::toDTO).collect(Collectors.toList());
-  }
-
-  public Task toEntity(TaskDTO taskDTO) {
-    if (taskDTO == null) {
-      return null;
-    }
-
-    Task.TaskBuilder builder =
-        Task.builder().title(taskDTO.getTitle()).description(taskDTO.getDescription())
-            .completed(taskDTO.isCompleted()).dueDate(taskDTO.getDueDate());
-
-    if (taskDTO.getId() != null) {
-      builder.id(taskDTO.getId());
-    }
-
-    if (taskDTO.getProjectId() != null) {
-      projectRepository.findById(taskDTO.getProjectId()).ifPresent(builder::project);
-    }
-
-    if (taskDTO.getMilestoneId() != null) {
-      milestoneRepository.findById(taskDTO.getMilestoneId()).ifPresent(builder::milestone);
-    }
-
-    return builder.build();
-  }
+/**
+ * Task mapping, generated at compile time. Relationships are never looked up here: callers pass
+ * the project and milestone they already validated, usually as lazy references.
+ */
+@Mapper(config = MappingSettings.class)
+public interface TaskMapper {
+
+  @Mapping(target = "projectId", source = "project.id")
+  @Mapping(target = "milestoneId", source = "milestone.id")
+  TaskDTO toDTO(Task task);
+
+  List<TaskDTO> toDTOList(List<Task> tasks);
+
+  @BeanMapping(ignoreByDefault = true)
+  @Mapping(target = "title", source = "taskDTO.title")
+  @Mapping(target = "description", source = "taskDTO.description")
+  @Mapping(target = "completed", source = "taskDTO.completed")
+  @Mapping(target = "dueDate", source = "taskDTO.dueDate")
+  @Mapping(target = "project", source = "project")
+  @Mapping(target = "milestone", source = "milestone")
+  Task toEntity(TaskDTO taskDTO, Project project, Milestone milestone);
 }
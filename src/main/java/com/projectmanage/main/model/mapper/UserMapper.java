@@ -68,7 +68,9 @@ public class UserMapper {
   }
 
   /**
-   * Update a User entity with data from UserDTO
+   * Update a User entity with data from UserDTO. Callers must evict the cached principal afterwards
+   * (see {@code UserService#updateProfile}), otherwise other requests keep the old profile and role
+   * until the cache TTL runs out.
    *
    * @param user the User entity to update
    * @param userDTO the UserDTO with updated data
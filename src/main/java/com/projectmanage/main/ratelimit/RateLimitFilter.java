@@ -0,0 +1,64 @@
+package com.projectmanage.main.ratelimit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.projectmanage.main.dto.CustomUserDetails;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Throttles requests matching the configured rules. Runs after {@code JWTFilter} so authenticated
+ * callers are limited per user; anonymous callers (login, register) are limited per client IP.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+  private final RateLimiter rateLimiter;
+  private final String clientIpHeader;
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+
+    long waitNanos = rateLimiter.tryAcquire(request.getMethod(), request.getRequestURI(),
+        resolveSubject(request));
+    if (waitNanos == 0) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    log.debug("Rate limit exceeded for {} {}", request.getMethod(), request.getRequestURI());
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write("{\"message\":\"Too many requests, please retry later\"}");
+  }
+
+  private String resolveSubject(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+      return "user:" + userDetails.getId();
+    }
+
+    String forwarded = request.getHeader(clientIpHeader);
+    return "ip:" + (StringUtils.hasText(forwarded) ? forwarded.trim() : request.getRemoteAddr());
+  }
+}
@@ -0,0 +1,49 @@
+package com.projectmanage.main.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Rate limit rules bound from {@code app.rate-limit}. Rules are checked in order and the first one
+ * matching the request path and method, and none of its excludes, applies.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+
+  // Header carrying the client address behind the proxy; the socket address is used without it
+  private String clientIpHeader = "X-Real-IP";
+
+  // Buckets untouched for this long after refilling completely are dropped
+  private Duration idleTimeout = Duration.ofMinutes(10);
+
+  private int stripes = 16;
+
+  private List<Rule> rules = new ArrayList<>();
+
+  @Data
+  public static class Rule {
+    // Ant-style path pattern, e.g. /api/auth/**
+    private String pattern;
+
+    // HTTP method the rule is limited to, or any method when empty
+    private String method;
+
+    // Ant-style patterns the rule does not apply to, even though they match pattern
+    private List<String> excludes = new ArrayList<>();
+
+    // Burst size
+    private int capacity;
+
+    private double refillPerSecond;
+  }
+}
@@ -0,0 +1,155 @@
+package com.projectmanage.main.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import com.projectmanage.main.util.TimingWheel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-client token buckets for the configured route rules. Buckets live in independent stripes
+ * selected by key hash and are taken with a single CAS, so the request path never locks. Idle
+ * buckets are dropped by a timing wheel instead of scanning every stripe.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+  private static final int WHEEL_SLOTS = 64;
+  private static final int WHEEL_LEVELS = 2;
+  private static final long WHEEL_TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+  private final List<CompiledRule> rules = new ArrayList<>();
+  private final ConcurrentHashMap<BucketKey, TokenBucket>[] stripes;
+  private final TimingWheel<BucketKey> evictionWheel;
+  private final long idleTimeoutNanos;
+
+  @SuppressWarnings("unchecked")
+  public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    for (RateLimitProperties.Rule rule : properties.getRules()) {
+      if (rule.getCapacity() < 1 || rule.getRefillPerSecond() <= 0) {
+        throw new IllegalStateException("Invalid rate limit rule for " + rule.getPattern());
+      }
+      String method = StringUtils.hasText(rule.getMethod()) ? rule.getMethod().toUpperCase() : null;
+      String name = (method == null ? "" : method + " ") + rule.getPattern();
+      rules.add(new CompiledRule(rules.size(), rule.getPattern(), List.copyOf(rule.getExcludes()),
+          method, (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond()),
+          rule.getCapacity(),
+          Counter.builder("rate_limit.rejected").tag("rule", name)
+              .description("Requests rejected by the rate limiter").register(meterRegistry)));
+    }
+    // Power of two so a stripe is picked with a mask
+    int stripeCount = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1)) << 1;
+    this.stripes = new ConcurrentHashMap[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new ConcurrentHashMap<>();
+    }
+    this.evictionWheel = new TimingWheel<>(WHEEL_SLOTS, WHEEL_LEVELS, WHEEL_TICK_NANOS,
+        System.nanoTime());
+    this.idleTimeoutNanos = properties.getIdleTimeout().toNanos();
+    Gauge.builder("rate_limit.buckets", this, RateLimiter::bucketCount)
+        .description("Live rate limit buckets").register(meterRegistry);
+  }
+
+  /**
+   * Take a token for {@code subject} from the first rule matching the request.
+   *
+   * @return 0 when the request may proceed or no rule applies, otherwise the nanoseconds until the
+   *         subject may retry
+   */
+  public long tryAcquire(String method, String path, String subject) {
+    CompiledRule rule = match(method, path);
+    if (rule == null) {
+      return 0;
+    }
+
+    long now = System.nanoTime();
+    BucketKey key = new BucketKey(rule.index(), subject);
+    ConcurrentHashMap<BucketKey, TokenBucket> stripe = stripeFor(key);
+    TokenBucket bucket = stripe.get(key);
+    if (bucket == null) {
+      TokenBucket created = new TokenBucket(rule.emissionIntervalNanos(), rule.capacity(), now);
+      bucket = stripe.putIfAbsent(key, created);
+      if (bucket == null) {
+        bucket = created;
+        evictionWheel.schedule(key, now + idleTimeoutNanos);
+      }
+    }
+
+    long waitNanos = bucket.tryConsume(now);
+    if (waitNanos > 0) {
+      rule.rejected().increment();
+    }
+    return waitNanos;
+  }
+
+  @Scheduled(fixedRate = 1, timeUnit = TimeUnit.SECONDS)
+  public void evictIdleBuckets() {
+    long now = System.nanoTime();
+    evictionWheel.advance(now, key -> {
+      ConcurrentHashMap<BucketKey, TokenBucket> stripe = stripeFor(key);
+      TokenBucket bucket = stripe.get(key);
+      if (bucket == null) {
+        return;
+      }
+      long idleUntil = bucket.fullAt() + idleTimeoutNanos;
+      if (idleUntil - now > 0) {
+        // Still in use, check again once it could have been idle long enough
+        evictionWheel.schedule(key, idleUntil);
+      } else if (!stripe.remove(key, bucket)) {
+        log.debug("Rate limit bucket {} was replaced during eviction", key);
+      }
+    });
+  }
+
+  private CompiledRule match(String method, String path) {
+    for (CompiledRule rule : rules) {
+      if ((rule.method() == null || rule.method().equals(method))
+          && pathMatcher.match(rule.pattern(), path) && !excluded(rule, path)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  private boolean excluded(CompiledRule rule, String path) {
+    for (String exclude : rule.excludes()) {
+      if (pathMatcher.match(exclude, path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ConcurrentHashMap<BucketKey, TokenBucket> stripeFor(BucketKey key) {
+    int h = key.hashCode();
+    return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+  }
+
+  private double bucketCount() {
+    long count = 0;
+    for (ConcurrentHashMap<BucketKey, TokenBucket> stripe : stripes) {
+      count += stripe.size();
+    }
+    return count;
+  }
+
+  private record CompiledRule(int index, String pattern, List<String> excludes, String method,
+      long emissionIntervalNanos, int capacity, Counter rejected) {
+  }
+
+  private record BucketKey(int rule, String subject) {
+  }
+}
@@ -0,0 +1,44 @@
+package com.projectmanage.main.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single theoretical arrival time (GCRA), so consuming a token is one CAS on
+ * one long and never blocks. The bucket is full again once that time is in the past.
+ */
+final class TokenBucket {
+
+  private final AtomicLong theoreticalArrival;
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+
+  TokenBucket(long emissionIntervalNanos, int capacity, long nowNanos) {
+    this.theoreticalArrival = new AtomicLong(nowNanos);
+    this.emissionIntervalNanos = emissionIntervalNanos;
+    this.burstToleranceNanos = emissionIntervalNanos * capacity;
+  }
+
+  /**
+   * Take one token.
+   *
+   * @return 0 when a token was taken, otherwise the nanoseconds until one becomes available
+   */
+  long tryConsume(long nowNanos) {
+    while (true) {
+      long arrival = theoreticalArrival.get();
+      long next = (arrival - nowNanos > 0 ? arrival : nowNanos) + emissionIntervalNanos;
+      long excess = next - nowNanos - burstToleranceNanos;
+      if (excess > 0) {
+        return excess;
+      }
+      if (theoreticalArrival.compareAndSet(arrival, next)) {
+        return 0;
+      }
+    }
+  }
+
+  // Time at which the bucket is completely refilled
+  long fullAt() {
+    return theoreticalArrival.get();
+  }
+}
@@ -1,11 +1,20 @@
 package com.projectmanage.main.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.projectmanage.main.model.Comment;
+import com.projectmanage.main.model.dto.ExportedComment;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,4 +25,23 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
   // List all comments for projects (potentially also needs JOIN FETCH if user is accessed later)
   @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.project.id = :projectId")
   List<Comment> findByProjectId(@Param("projectId") Long projectId);
+
+  // Export rows of a project's live tasks, as unmanaged projections
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT new com.projectmanage.main.model.dto.ExportedComment(c.id, c.task.id, c.user.id,"
+      + " c.content, c.createdAt, c.updatedAt)"
+      + " FROM Comment c JOIN c.task t WHERE t.project.id = :projectId ORDER BY c.id")
+  Stream<ExportedComment> streamExportByProjectId(@Param("projectId") Long projectId);
+
+  // Comments of one project with their tasks, in one query
+  @Query("SELECT c FROM Comment c JOIN FETCH c.task t WHERE c.id IN :commentIds"
+      + " AND t.project.id = :projectId")
+  List<Comment> findByIdInAndProjectId(@Param("commentIds") Collection<Long> commentIds,
+      @Param("projectId") Long projectId);
+
+  // Bulk delete for a chunk of tasks that are about to be deleted
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "comments"))
+  @Query(value = "DELETE FROM comments WHERE task_id IN (:taskIds)", nativeQuery = true)
+  int bulkDeleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
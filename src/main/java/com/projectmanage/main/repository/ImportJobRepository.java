@@ -0,0 +1,14 @@
+package com.projectmanage.main.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.projectmanage.main.model.ImportJob;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+  Optional<ImportJob> findByIdAndUserId(Long id, Long userId);
+}
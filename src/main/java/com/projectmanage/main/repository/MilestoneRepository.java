@@ -1,16 +1,149 @@
 package com.projectmanage.main.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.dto.ExportedMilestone;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface MilestoneRepository extends JpaRepository<Milestone, Long> {
 
+  // Counter statements stay out of the "milestones" region, see ProjectRepository.COUNTERS_SPACE
+  String COUNTERS_SPACE = "milestones_counters";
+
   List<Milestone> findByProjectId(Long projectId);
 
   boolean existsByProjectIdAndTitle(Long projectId, String title);
+
+  // True when the project exists and none of its milestones uses the title yet
+  @Query("select count(p) > 0 from Project p where p.id = :projectId and not exists"
+      + " (select m.id from Milestone m where m.project = p and m.title = :title)")
+  boolean isTitleAvailable(@Param("projectId") Long projectId, @Param("title") String title);
+
+  // Owning project of a milestone, read from the foreign key without loading the milestone
+  @Query("select m.project.id from Milestone m where m.id = :milestoneId")
+  Optional<Long> findProjectIdById(@Param("milestoneId") Long milestoneId);
+
+  List<Milestone> findByIdInAndProjectId(Collection<Long> milestoneIds, Long projectId);
+
+  // Unmanaged rows read through a server-side cursor, so an export holds one fetch at a time
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("select new com.projectmanage.main.model.dto.ExportedMilestone(m.id, m.title,"
+      + " m.description, m.completed, m.createdAt, m.updatedAt)"
+      + " from Milestone m where m.project.id = :projectId order by m.id")
+  Stream<ExportedMilestone> streamExportByProjectId(@Param("projectId") Long projectId);
+
+  // Initializes the tasks collection of every milestone of the given projects
+  @Query("select m from Milestone m left join fetch m.tasks where m.project.id in :projectIds")
+  List<Milestone> fetchTasksByProjectIds(@Param("projectIds") List<Long> projectIds);
+
+  // Atomic in-place adjustment; never read-modify-write the counters through the entity
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = COUNTERS_SPACE))
+  @Query(value = "UPDATE milestones SET task_count = task_count + :taskDelta,"
+      + " completed_count = completed_count + :completedDelta WHERE id = :milestoneId",
+      nativeQuery = true)
+  int adjustProgressCounters(@Param("milestoneId") Long milestoneId,
+      @Param("taskDelta") int taskDelta, @Param("completedDelta") int completedDelta);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = COUNTERS_SPACE))
+  @Query(value = "UPDATE milestones SET task_count = 0, completed_count = 0"
+      + " WHERE id = :milestoneId", nativeQuery = true)
+  int resetProgressCounters(@Param("milestoneId") Long milestoneId);
+
+  // Recount one id range from the tasks table, touching only rows that drifted. Tombstones keep
+  // the counts they had when deleted, which a cascading restore adds back to the project.
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "UPDATE milestones m"
+      + " SET task_count = (SELECT count(*) FROM tasks t"
+      + " WHERE t.milestone_id = m.id AND t.deleted_at IS NULL),"
+      + " completed_count = (SELECT count(*) FROM tasks t"
+      + " WHERE t.milestone_id = m.id AND t.deleted_at IS NULL"
+      + " AND t.completed = true)"
+      + " WHERE m.id BETWEEN :fromId AND :toId AND m.deleted_at IS NULL"
+      + " AND (m.task_count <> (SELECT count(*) FROM tasks t"
+      + " WHERE t.milestone_id = m.id AND t.deleted_at IS NULL)"
+      + " OR m.completed_count <> (SELECT count(*) FROM tasks t"
+      + " WHERE t.milestone_id = m.id AND t.deleted_at IS NULL"
+      + " AND t.completed = true))", nativeQuery = true)
+  int reconcileProgressCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+
+  @Query(value = "SELECT coalesce(max(id), 0) FROM milestones", nativeQuery = true)
+  long findMaxId();
+
+  // Bulk deletes of tombstoned milestones; their tasks must already be deleted or detached
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "DELETE FROM milestones WHERE id = :milestoneId AND deleted_at IS NOT NULL",
+      nativeQuery = true)
+  int bulkDeleteById(@Param("milestoneId") Long milestoneId);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "DELETE FROM milestones WHERE project_id = :projectId AND deleted_at IS NOT NULL",
+      nativeQuery = true)
+  int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+
+  // Soft delete bookkeeping; native, so tombstoned rows stay visible to these statements
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "UPDATE milestones SET deleted_at = :deletedAt"
+      + " WHERE id = :milestoneId AND deleted_at IS NULL", nativeQuery = true)
+  int softDelete(@Param("milestoneId") Long milestoneId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "UPDATE milestones SET deleted_at = :deletedAt"
+      + " WHERE project_id = :projectId AND deleted_at IS NULL", nativeQuery = true)
+  int softDeleteByProjectId(@Param("projectId") Long projectId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "UPDATE milestones SET deleted_at = NULL"
+      + " WHERE id = :milestoneId AND deleted_at = :deletedAt", nativeQuery = true)
+  int restore(@Param("milestoneId") Long milestoneId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "milestones"))
+  @Query(value = "UPDATE milestones SET deleted_at = NULL"
+      + " WHERE project_id = :projectId AND deleted_at = :deletedAt", nativeQuery = true)
+  int restoreByProjectId(@Param("projectId") Long projectId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  // Bypasses the second-level cache, where findById would then find the tombstone
+  @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"))
+  @Query(value = "SELECT * FROM milestones WHERE id = :milestoneId", nativeQuery = true)
+  Optional<Milestone> findIncludingDeleted(@Param("milestoneId") Long milestoneId);
+
+  // Ids of a project's milestones, tombstoned ones included
+  @Query(value = "SELECT id FROM milestones WHERE project_id = :projectId", nativeQuery = true)
+  List<Long> findIdsIncludingDeletedByProjectId(@Param("projectId") Long projectId);
+
+  // Oldest tombstones first, served by idx_milestones_deleted_at
+  @Query(value = "SELECT id FROM milestones WHERE deleted_at < :cutoff"
+      + " ORDER BY deleted_at, id LIMIT :limit", nativeQuery = true)
+  List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff,
+      @Param("limit") int limit);
 }
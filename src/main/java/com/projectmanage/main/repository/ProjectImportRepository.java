@@ -0,0 +1,259 @@
+package com.projectmanage.main.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based bulk import of one project, Postgres only. Every method must run in the same
+ * transaction: the file is copied with COPY into a temporary staging table, the exporting
+ * database's ids are mapped to new ones drawn from the id sequences in blocks, and each table is
+ * then filled with a single INSERT ... SELECT. The staging tables are dropped at commit.
+ *
+ * <p>
+ * The column lists are spelled out, so the generated {@code search_vector} columns are computed
+ * by Postgres rather than copied.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectImportRepository {
+
+  // Staging columns, named after the snake_case form of the export's properties
+  public static final List<String> COLUMNS = List.of("type", "id", "milestone_id", "task_id",
+      "user_id", "title", "description", "content", "completed", "due_date", "created_at",
+      "updated_at");
+
+  // allocationSize of the entities' pooled generators: Hibernate takes nextval as the last id of
+  // a block of this many, so ids handed out here never collide with its blocks
+  private static final int ID_BLOCK_SIZE = 50;
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private static final Map<String, String> SEQUENCES = Map.of("project", "projects_seq",
+      "milestone", "milestones_seq", "task", "tasks_seq", "comment", "comments_seq");
+
+  // Titles and descriptions have the width of the target columns, so an oversized value fails
+  // the COPY with its line number instead of failing an INSERT later
+  private static final String CREATE_STAGING = "CREATE TEMP TABLE import_rows (type varchar(16),"
+      + " id bigint, milestone_id bigint, task_id bigint, user_id bigint, title varchar(255),"
+      + " description varchar(255), content text, completed boolean, due_date date,"
+      + " created_at timestamp(6), updated_at timestamp(6)) ON COMMIT DROP";
+  private static final String CREATE_ID_MAP = "CREATE TEMP TABLE import_ids (type varchar(16),"
+      + " old_id bigint, new_id bigint, PRIMARY KEY (type, old_id)) ON COMMIT DROP";
+
+  // Each returns a description of the first problem it finds, or nothing
+  private static final List<String> CHECKS = List.of(
+      "SELECT 'Unknown record type: ' || coalesce(type, 'null') FROM import_rows"
+          + " WHERE type IS NULL OR type NOT IN ('project', 'milestone', 'task', 'comment')"
+          + " LIMIT 1",
+      "SELECT 'Expected one project record, found ' || count(*) FROM import_rows"
+          + " WHERE type = 'project' HAVING count(*) <> 1",
+      "SELECT 'Missing id on a ' || type || ' record' FROM import_rows WHERE id IS NULL LIMIT 1",
+      "SELECT 'Duplicate ' || type || ' id ' || id FROM import_rows GROUP BY type, id"
+          + " HAVING count(*) > 1 LIMIT 1",
+      "SELECT 'Missing title on ' || type || ' ' || id FROM import_rows"
+          + " WHERE type IN ('project', 'milestone', 'task') AND title IS NULL LIMIT 1",
+      "SELECT 'Task ' || t.id || ' refers to unknown milestone ' || t.milestone_id"
+          + " FROM import_rows t WHERE t.type = 'task' AND t.milestone_id IS NOT NULL"
+          + " AND NOT EXISTS (SELECT 1 FROM import_rows m WHERE m.type = 'milestone'"
+          + " AND m.id = t.milestone_id) LIMIT 1",
+      "SELECT 'Comment ' || c.id || ' refers to unknown task '"
+          + " || coalesce(c.task_id::text, 'null') FROM import_rows c WHERE c.type = 'comment'"
+          + " AND NOT EXISTS (SELECT 1 FROM import_rows t WHERE t.type = 'task'"
+          + " AND t.id = c.task_id) LIMIT 1");
+
+  // Numbers the staged rows of one type in id order and draws one nextval per block of ids. The
+  // volatile nextval keeps the drawing CTEs from being inlined, so each runs once per block. An
+  // unused sequence first returns its start value 1, which Hibernate's pooled optimizer treats as
+  // the start of a block, not its end; that draw is dropped and one more block is drawn instead.
+  private static final String ALLOCATE_IDS = "WITH old AS (SELECT id,"
+      + " row_number() OVER (ORDER BY id) - 1 AS n FROM import_rows WHERE type = :type),"
+      + " drawn AS (SELECT nextval(CAST(:sequence AS regclass)) AS last_id"
+      + " FROM generate_series(1, (SELECT (count(*) + :blockSize - 1) / :blockSize FROM old))),"
+      + " redrawn AS (SELECT nextval(CAST(:sequence AS regclass)) AS last_id"
+      + " WHERE EXISTS (SELECT 1 FROM drawn WHERE last_id < :blockSize)),"
+      + " blocks AS (SELECT row_number() OVER (ORDER BY last_id) - 1 AS block, last_id"
+      + " FROM (SELECT last_id FROM drawn UNION ALL SELECT last_id FROM redrawn) d"
+      + " WHERE last_id >= :blockSize)"
+      + " INSERT INTO import_ids (type, old_id, new_id)"
+      + " SELECT :type, old.id, blocks.last_id - :blockSize + 1 + old.n % :blockSize"
+      + " FROM old JOIN blocks ON blocks.block = old.n / :blockSize";
+
+  private static final String INSERT_PROJECT = "INSERT INTO projects (id, user_id, title,"
+      + " description, task_count, completed_count, created_at, updated_at)"
+      + " SELECT i.new_id, :userId, r.title, r.description,"
+      + " (SELECT count(*) FROM import_rows WHERE type = 'task'),"
+      + " (SELECT count(*) FROM import_rows WHERE type = 'task' AND completed),"
+      + " coalesce(r.created_at, LOCALTIMESTAMP), coalesce(r.updated_at, LOCALTIMESTAMP)"
+      + " FROM import_rows r JOIN import_ids i ON i.type = r.type AND i.old_id = r.id"
+      + " WHERE r.type = 'project' RETURNING id";
+
+  private static final String INSERT_MILESTONES = "INSERT INTO milestones (id, project_id, title,"
+      + " description, completed, task_count, completed_count, created_at, updated_at)"
+      + " SELECT i.new_id, :projectId, r.title, r.description, coalesce(r.completed, false),"
+      + " coalesce(c.total, 0), coalesce(c.done, 0),"
+      + " coalesce(r.created_at, LOCALTIMESTAMP), coalesce(r.updated_at, LOCALTIMESTAMP)"
+      + " FROM import_rows r JOIN import_ids i ON i.type = r.type AND i.old_id = r.id"
+      + " LEFT JOIN (SELECT milestone_id, count(*) AS total,"
+      + " count(*) FILTER (WHERE completed) AS done FROM import_rows"
+      + " WHERE type = 'task' AND milestone_id IS NOT NULL GROUP BY milestone_id) c"
+      + " ON c.milestone_id = r.id WHERE r.type = 'milestone'";
+
+  private static final String INSERT_TASKS = "INSERT INTO tasks (id, project_id, milestone_id,"
+      + " title, description, completed, due_date, created_at, updated_at)"
+      + " SELECT i.new_id, :projectId, m.new_id, r.title, r.description,"
+      + " coalesce(r.completed, false), r.due_date,"
+      + " coalesce(r.created_at, LOCALTIMESTAMP), coalesce(r.updated_at, LOCALTIMESTAMP)"
+      + " FROM import_rows r JOIN import_ids i ON i.type = r.type AND i.old_id = r.id"
+      + " LEFT JOIN import_ids m ON m.type = 'milestone' AND m.old_id = r.milestone_id"
+      + " WHERE r.type = 'task'";
+
+  // Authors are users of the exporting database, so comments are attributed to the importer
+  private static final String INSERT_COMMENTS = "INSERT INTO comments (id, task_id, user_id,"
+      + " content, created_at, updated_at)"
+      + " SELECT i.new_id, t.new_id, :userId, r.content,"
+      + " coalesce(r.created_at, LOCALTIMESTAMP), coalesce(r.updated_at, LOCALTIMESTAMP)"
+      + " FROM import_rows r JOIN import_ids i ON i.type = r.type AND i.old_id = r.id"
+      + " JOIN import_ids t ON t.type = 'task' AND t.old_id = r.task_id"
+      + " WHERE r.type = 'comment'";
+
+  /** Rows written to the COPY stream as CSV, in the column order the copy was opened with. */
+  @FunctionalInterface
+  public interface CsvWriter {
+    void write(OutputStream out) throws IOException;
+  }
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public void createStagingTables() {
+    jdbcTemplate.getJdbcOperations().execute(CREATE_STAGING);
+    jdbcTemplate.getJdbcOperations().execute(CREATE_ID_MAP);
+  }
+
+  /**
+   * Copy CSV rows (no header) into the staging table.
+   *
+   * @return number of rows copied
+   */
+  public long copyCsv(List<String> columns, InputStream csv) {
+    String sql = copySql(columns);
+    return copy(connection -> connection.getCopyAPI().copyIn(sql, csv, COPY_BUFFER_SIZE));
+  }
+
+  /**
+   * Copy the CSV rows produced by {@code writer} into the staging table.
+   *
+   * @return number of rows copied
+   */
+  public long copyCsv(List<String> columns, CsvWriter writer) {
+    String sql = copySql(columns);
+    return copy(connection -> {
+      PGCopyOutputStream out = new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE);
+      try (out) {
+        writer.write(out);
+      }
+      return out.getHandledRowCount();
+    });
+  }
+
+  // Temporary tables are never analyzed automatically; the checks and inserts need row counts
+  public void indexStaging() {
+    jdbcTemplate.getJdbcOperations().execute("CREATE INDEX ON import_rows (type, id)");
+    jdbcTemplate.getJdbcOperations().execute("ANALYZE import_rows");
+  }
+
+  // First problem that would make the staged rows fail to import or import wrongly
+  public Optional<String> findProblem() {
+    return CHECKS.stream()
+        .flatMap(check -> jdbcTemplate.getJdbcOperations().queryForList(check, String.class)
+            .stream())
+        .findFirst();
+  }
+
+  public void allocateIds() {
+    SEQUENCES.forEach((type, sequence) -> jdbcTemplate.update(ALLOCATE_IDS,
+        new MapSqlParameterSource().addValue("type", type).addValue("sequence", sequence)
+            .addValue("blockSize", ID_BLOCK_SIZE)));
+    jdbcTemplate.getJdbcOperations().execute("ANALYZE import_ids");
+  }
+
+  // The project with its task counters already set; returns its new id
+  public long insertProject(Long userId) {
+    return jdbcTemplate.queryForObject(INSERT_PROJECT,
+        new MapSqlParameterSource("userId", userId), Long.class);
+  }
+
+  public int insertMilestones(long projectId) {
+    return jdbcTemplate.update(INSERT_MILESTONES,
+        new MapSqlParameterSource("projectId", projectId));
+  }
+
+  public int insertTasks(long projectId) {
+    return jdbcTemplate.update(INSERT_TASKS, new MapSqlParameterSource("projectId", projectId));
+  }
+
+  public int insertComments(Long userId) {
+    return jdbcTemplate.update(INSERT_COMMENTS, new MapSqlParameterSource("userId", userId));
+  }
+
+  // ALLOCATE_IDS's arithmetic in Java, for tests: nextval calls needed for a number of rows,
+  // whether a drawn value can end a block, and the new id of the n-th row (from 0, in id order)
+  // given the nextval drawn for its block
+  static long blockCount(long rows) {
+    return (rows + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+  }
+
+  static boolean isUsableBlock(long blockLastId) {
+    return blockLastId >= ID_BLOCK_SIZE;
+  }
+
+  static long blockOf(long n) {
+    return n / ID_BLOCK_SIZE;
+  }
+
+  static long allocatedId(long blockLastId, long n) {
+    return blockLastId - ID_BLOCK_SIZE + 1 + n % ID_BLOCK_SIZE;
+  }
+
+  // Column names end up in the SQL text, so only staging columns get through
+  static String copySql(List<String> columns) {
+    for (String column : columns) {
+      if (!COLUMNS.contains(column)) {
+        throw new IllegalArgumentException(
+            "Unknown column '" + column + "', expected some of " + COLUMNS);
+      }
+    }
+    return "COPY import_rows (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+  }
+
+  private long copy(CopyCallback callback) {
+    return jdbcTemplate.getJdbcOperations().execute((ConnectionCallback<Long>) connection -> {
+      if (!connection.isWrapperFor(PGConnection.class)) {
+        throw new UnsupportedOperationException("Bulk import needs PostgreSQL (COPY)");
+      }
+      try {
+        return callback.copy(connection.unwrap(PGConnection.class));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  @FunctionalInterface
+  private interface CopyCallback {
+    long copy(PGConnection connection) throws SQLException, IOException;
+  }
+}
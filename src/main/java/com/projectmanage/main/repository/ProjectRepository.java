@@ -1,17 +1,171 @@
 package com.projectmanage.main.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.dto.ExportedProject;
+import com.projectmanage.main.model.dto.ProjectSummaryRow;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+  /**
+   * Query space of the native statements that only write columns the entity never writes
+   * (counters, content version). It names no mapped table, so Hibernate leaves the "projects"
+   * region alone instead of clearing all of it after every task write; callers evict the rows they
+   * touched through {@code EntityCacheInvalidator.evictAfterCommit}.
+   */
+  String COUNTERS_SPACE = "projects_counters";
+
   @Query("select p from Project p where p.user.email = :email")
   List<Project> findByUserEmail(@Param("email") String email);
 
   boolean existsByTitle(String title);
+
+  /**
+   * Project list summaries in one statement. Task figures come from the maintained counters;
+   * milestone figures and the latest task update are correlated subqueries served by the
+   * project_id indexes, so the cost does not grow with the number of tasks.
+   */
+  @Query("select p.id as id, p.title as title, p.description as description,"
+      + " (select count(m) from Milestone m where m.project = p) as milestoneCount,"
+      + " p.taskCount as taskCount, p.completedCount as completedCount,"
+      + " p.updatedAt as projectUpdatedAt,"
+      + " (select max(m.updatedAt) from Milestone m where m.project = p) as lastMilestoneUpdate,"
+      + " (select max(t.updatedAt) from Task t where t.project = p) as lastTaskUpdate"
+      + " from Project p where p.user.email = :email order by p.updatedAt desc, p.id desc")
+  List<ProjectSummaryRow> findSummariesByUserEmail(@Param("email") String email);
+
+  // Owner of a live project, for permission checks that need nothing else
+  @Query("select p.user.id from Project p where p.id = :projectId")
+  Optional<Long> findOwnerIdById(@Param("projectId") Long projectId);
+
+  @Query("select new com.projectmanage.main.model.dto.ExportedProject(p.id, p.title,"
+      + " p.description, p.createdAt, p.updatedAt) from Project p where p.id = :projectId")
+  Optional<ExportedProject> findExportById(@Param("projectId") Long projectId);
+
+  // Initializes the milestones collection of already loaded projects
+  @Query("select p from Project p left join fetch p.milestones where p.id in :projectIds")
+  List<Project> fetchMilestones(@Param("projectIds") List<Long> projectIds);
+
+  // Initializes the tasks collection of already loaded projects
+  @Query("select p from Project p left join fetch p.tasks where p.id in :projectIds")
+  List<Project> fetchTasks(@Param("projectIds") List<Long> projectIds);
+
+  // Atomic in-place adjustment; never read-modify-write the counters through the entity. Only
+  // live projects are touched, so a zero row count also means the project does not exist.
+  // Native statements declare the space they write: without it Hibernate drops every
+  // second-level cache region after the statement instead of just this table's.
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = COUNTERS_SPACE))
+  @Query(value = "UPDATE projects SET task_count = task_count + :taskDelta,"
+      + " completed_count = completed_count + :completedDelta"
+      + " WHERE id = :projectId AND deleted_at IS NULL", nativeQuery = true)
+  int adjustProgressCounters(@Param("projectId") Long projectId,
+      @Param("taskDelta") int taskDelta, @Param("completedDelta") int completedDelta);
+
+  /**
+   * Mark a change to the project or its tasks, milestones or comments. Call it in the writing
+   * transaction, or after the write has committed; never before, or a concurrent read could cache
+   * the old content under the new version. Nothing needs evicting: the version is always read
+   * from the table.
+   */
+  @Modifying
+  @Transactional
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = COUNTERS_SPACE))
+  @Query(value = "UPDATE projects SET content_version = content_version + 1"
+      + " WHERE id = :projectId", nativeQuery = true)
+  int bumpContentVersion(@Param("projectId") Long projectId);
+
+  // Projects owning milestones in an id range, for when counters in that range were repaired
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "projects"))
+  @Query(value = "UPDATE projects SET content_version = content_version + 1"
+      + " WHERE id IN (SELECT project_id FROM milestones WHERE id BETWEEN :fromId AND :toId)",
+      nativeQuery = true)
+  int bumpContentVersionByMilestoneRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+  // A primary key lookup of one column; empty once the project is deleted or purged
+  @Query(value = "SELECT content_version FROM projects"
+      + " WHERE id = :projectId AND deleted_at IS NULL", nativeQuery = true)
+  Optional<Long> findContentVersionById(@Param("projectId") Long projectId);
+
+  // Move a milestone's current counts out of (sign -1) or back into (sign 1) its project
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = COUNTERS_SPACE))
+  @Query(value = "UPDATE projects SET"
+      + " task_count = task_count"
+      + " + :sign * (SELECT task_count FROM milestones WHERE id = :milestoneId),"
+      + " completed_count = completed_count"
+      + " + :sign * (SELECT completed_count FROM milestones WHERE id = :milestoneId)"
+      + " WHERE id = :projectId", nativeQuery = true)
+  int adjustProgressCountersByMilestone(@Param("projectId") Long projectId,
+      @Param("milestoneId") Long milestoneId, @Param("sign") int sign);
+
+  // Recount one id range from the tasks table, touching only rows that drifted; the counters are
+  // part of the project's responses, so a repair moves its content version too. Tombstones keep
+  // the counts they had when deleted, so a restored project comes back with them.
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "projects"))
+  @Query(value = "UPDATE projects p"
+      + " SET content_version = content_version + 1,"
+      + " task_count = (SELECT count(*) FROM tasks t"
+      + " WHERE t.project_id = p.id AND t.deleted_at IS NULL),"
+      + " completed_count = (SELECT count(*) FROM tasks t"
+      + " WHERE t.project_id = p.id AND t.deleted_at IS NULL"
+      + " AND t.completed = true)"
+      + " WHERE p.id BETWEEN :fromId AND :toId AND p.deleted_at IS NULL"
+      + " AND (p.task_count <> (SELECT count(*) FROM tasks t"
+      + " WHERE t.project_id = p.id AND t.deleted_at IS NULL)"
+      + " OR p.completed_count <> (SELECT count(*) FROM tasks t"
+      + " WHERE t.project_id = p.id AND t.deleted_at IS NULL"
+      + " AND t.completed = true))", nativeQuery = true)
+  int reconcileProgressCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+
+  @Query(value = "SELECT coalesce(max(id), 0) FROM projects", nativeQuery = true)
+  long findMaxId();
+
+  // Bulk delete of a tombstoned project; its milestones and tasks must already be deleted
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "projects"))
+  @Query(value = "DELETE FROM projects WHERE id = :projectId AND deleted_at IS NOT NULL",
+      nativeQuery = true)
+  int bulkDeleteById(@Param("projectId") Long projectId);
+
+  // Soft delete bookkeeping; native, so tombstoned rows stay visible to these statements
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "projects"))
+  @Query(value = "UPDATE projects SET deleted_at = :deletedAt"
+      + " WHERE id = :projectId AND deleted_at IS NULL", nativeQuery = true)
+  int softDelete(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "projects"))
+  @Query(value = "UPDATE projects SET deleted_at = NULL"
+      + " WHERE id = :projectId AND deleted_at = :deletedAt", nativeQuery = true)
+  int restore(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+  // Bypasses the second-level cache, where findById would then find the tombstone
+  @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"))
+  @Query(value = "SELECT * FROM projects WHERE id = :projectId", nativeQuery = true)
+  Optional<Project> findIncludingDeleted(@Param("projectId") Long projectId);
+
+  // Oldest tombstones first, served by idx_projects_deleted_at
+  @Query(value = "SELECT id FROM projects WHERE deleted_at < :cutoff"
+      + " ORDER BY deleted_at, id LIMIT :limit", nativeQuery = true)
+  List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff,
+      @Param("limit") int limit);
 }
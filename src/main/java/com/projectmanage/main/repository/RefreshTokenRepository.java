@@ -1,20 +1,73 @@
 package com.projectmanage.main.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+import java.time.Instant;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.projectmanage.main.model.RefreshToken;
 import com.projectmanage.main.model.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-  Optional<RefreshToken> findByToken(String token);
-
-  Optional<RefreshToken> findByUser(User user);
 
   @Modifying
   int deleteByUser(User user);
+
+  @Modifying
+  @Transactional
+  int deleteByTokenHash(String tokenHash);
+
+  // Insert a session without loading the user; pair with deleteSessionsBeyond for the cap
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "refresh_token_sessions"))
+  @Transactional
+  @Query(value = "INSERT INTO refresh_token_sessions (token_hash, user_id, expiry_date, created_at)"
+      + " VALUES (:tokenHash, :userId, :expiryDate, :createdAt)", nativeQuery = true)
+  int insertSession(@Param("tokenHash") String tokenHash, @Param("userId") Long userId,
+      @Param("expiryDate") Instant expiryDate, @Param("createdAt") Instant createdAt);
+
+  // Drop the user's sessions beyond the newest keep, driven by the (user_id, created_at) index
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "refresh_token_sessions"))
+  @Transactional
+  @Query(value = "DELETE FROM refresh_token_sessions WHERE id IN (SELECT id"
+      + " FROM refresh_token_sessions WHERE user_id = :userId"
+      + " ORDER BY created_at DESC, id DESC OFFSET :keep ROWS)", nativeQuery = true)
+  int deleteSessionsBeyond(@Param("userId") Long userId, @Param("keep") int keep);
+
+  // One bounded batch of the expired-token sweep, driven by the expiry_date index
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "refresh_token_sessions"))
+  @Query(value = "DELETE FROM refresh_token_sessions WHERE id IN (SELECT id"
+      + " FROM refresh_token_sessions WHERE expiry_date < :now LIMIT :batchSize)",
+      nativeQuery = true)
+  int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+
+  /**
+   * Rotate a live session to a new hash and expiry. Returns 0 when the presented token is unknown,
+   * already rotated or expired; the row lock makes a concurrent replay of the same token see 0.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "refresh_token_sessions"))
+  @Transactional
+  @Query(value = "UPDATE refresh_token_sessions"
+      + " SET token_hash = :newTokenHash, expiry_date = :newExpiryDate"
+      + " WHERE token_hash = :tokenHash AND expiry_date > :now", nativeQuery = true)
+  int rotateSession(@Param("tokenHash") String tokenHash,
+      @Param("newTokenHash") String newTokenHash, @Param("newExpiryDate") Instant newExpiryDate,
+      @Param("now") Instant now);
+
+  @Query("SELECT t.user.id FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+  Optional<Long> findUserIdByTokenHash(@Param("tokenHash") String tokenHash);
 }
@@ -0,0 +1,117 @@
+package com.projectmanage.main.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.projectmanage.main.model.dto.SearchResultDTO;
+import com.projectmanage.main.model.dto.SearchResultDTO.Kind;
+import com.projectmanage.main.util.SearchCursor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Full-text search over the generated {@code search_vector} columns of tasks, milestones and
+ * comments (see schema-postgresql.sql), Postgres only.
+ *
+ * <p>
+ * Each table is searched in its own branch through its GIN index, scoped to the caller's live
+ * projects, ranked with {@code ts_rank_cd} and cut to one page before the branches are merged with
+ * UNION ALL. Only the rows of the final page go through {@code ts_headline}, which re-parses the
+ * text and is by far the most expensive step.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+  // Highlight markers; control characters cannot be confused with HTML once the text is escaped
+  public static final String HIGHLIGHT_START = "\u0001";
+  public static final String HIGHLIGHT_STOP = "\u0002";
+
+  private static final String MARKERS =
+      "StartSel=\"" + HIGHLIGHT_START + "\", StopSel=\"" + HIGHLIGHT_STOP + "\"";
+  // Titles are short, so they are highlighted whole; bodies are cut to the best two fragments
+  private static final String TITLE_OPTIONS = MARKERS + ", HighlightAll=true";
+  private static final String SNIPPET_OPTIONS =
+      MARKERS + ", MaxWords=35, MinWords=15, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+  private static final String OWNED_PROJECTS =
+      "SELECT id FROM projects WHERE user_id = :userId AND deleted_at IS NULL";
+
+  private static final Map<Kind, String> SOURCES = Map.of(
+      Kind.TASK, "SELECT 'TASK' AS kind, t.id, t.project_id, t.id AS task_id, t.title,"
+          + " t.description AS body, ts_rank_cd(t.search_vector, q.query) AS score"
+          + " FROM tasks t CROSS JOIN q"
+          + " WHERE t.search_vector @@ q.query AND t.deleted_at IS NULL"
+          + " AND t.project_id IN (" + OWNED_PROJECTS + ")",
+      Kind.MILESTONE, "SELECT 'MILESTONE' AS kind, m.id, m.project_id,"
+          + " CAST(NULL AS bigint) AS task_id, m.title, m.description AS body,"
+          + " ts_rank_cd(m.search_vector, q.query) AS score"
+          + " FROM milestones m CROSS JOIN q"
+          + " WHERE m.search_vector @@ q.query AND m.deleted_at IS NULL"
+          + " AND m.project_id IN (" + OWNED_PROJECTS + ")",
+      Kind.COMMENT, "SELECT 'COMMENT' AS kind, c.id, t.project_id, c.task_id,"
+          + " CAST(NULL AS varchar) AS title, c.content AS body,"
+          + " ts_rank_cd(c.search_vector, q.query) AS score"
+          + " FROM comments c JOIN tasks t ON t.id = c.task_id CROSS JOIN q"
+          + " WHERE c.search_vector @@ q.query AND t.deleted_at IS NULL"
+          + " AND t.project_id IN (" + OWNED_PROJECTS + ")");
+
+  private static final RowMapper<SearchResultDTO> ROW_MAPPER = (rs, rowNum) -> SearchResultDTO
+      .builder().kind(Kind.valueOf(rs.getString("kind"))).id(rs.getLong("id"))
+      .projectId(rs.getLong("project_id")).taskId(rs.getObject("task_id", Long.class))
+      .title(rs.getString("title")).snippet(rs.getString("snippet")).score(rs.getFloat("score"))
+      .build();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Hits for a {@code websearch_to_tsquery} query (quoted phrases, {@code or}, {@code -word}) in
+   * the user's projects, best first.
+   *
+   * @param after last hit of the previous page, or null for the first page
+   * @param limit maximum number of hits
+   */
+  public List<SearchResultDTO> search(Long userId, String query, SearchCursor after, int limit) {
+    String hits = SOURCES.entrySet().stream()
+        .map(source -> "(SELECT * FROM (" + source.getValue() + ") hit"
+            + keyset(source.getKey(), after) + " ORDER BY score DESC, id DESC LIMIT :limit)")
+        .collect(Collectors.joining(" UNION ALL "));
+    String sql = "WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS query)"
+        + " SELECT hit.kind, hit.id, hit.project_id, hit.task_id, hit.score,"
+        + " ts_headline('simple', hit.title, q.query, :titleOptions) AS title,"
+        + " ts_headline('simple', hit.body, q.query, :snippetOptions) AS snippet"
+        + " FROM (SELECT * FROM (" + hits + ") hits"
+        + " ORDER BY score DESC, kind COLLATE \"C\", id DESC LIMIT :limit) hit CROSS JOIN q"
+        + " ORDER BY hit.score DESC, hit.kind COLLATE \"C\", hit.id DESC";
+
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue("userId", userId)
+        .addValue("query", query).addValue("limit", limit)
+        .addValue("titleOptions", TITLE_OPTIONS).addValue("snippetOptions", SNIPPET_OPTIONS);
+    if (after != null) {
+      params.addValue("afterScore", after.score()).addValue("afterId", after.id());
+    }
+    return jdbcTemplate.query(sql, params, ROW_MAPPER);
+  }
+
+  // Hits sort by (score DESC, kind, id DESC). A branch has a single kind, so where it stands
+  // relative to the cursor's kind is known here and only score and id are left to compare.
+  private static String keyset(Kind kind, SearchCursor after) {
+    if (after == null) {
+      return "";
+    }
+    int order = kind.name().compareTo(after.kind().name());
+    if (order < 0) {
+      return " WHERE score < :afterScore";
+    }
+    if (order > 0) {
+      return " WHERE score <= :afterScore";
+    }
+    return " WHERE (score < :afterScore OR (score = :afterScore AND id < :afterId))";
+  }
+}
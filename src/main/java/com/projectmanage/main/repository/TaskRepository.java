@@ -1,12 +1,25 @@
 package com.projectmanage.main.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.projectmanage.main.model.Milestone;
 import com.projectmanage.main.model.Project;
 import com.projectmanage.main.model.Task;
+import com.projectmanage.main.model.dto.ExportedTask;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -16,9 +29,103 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
   List<Task> findByMilestoneId(Long milestoneId);
 
+  // Tasks of several milestones in one IN query, for grouping in memory
+  @Query("select t from Task t where t.milestone.id in :milestoneIds order by t.id")
+  List<Task> findByMilestoneIdIn(@Param("milestoneIds") Collection<Long> milestoneIds);
+
   List<Task> findByMilestoneOrderByUpdatedAtDesc(Milestone milestone);
 
+  // Export rows as unmanaged projections; the milestone id comes from the foreign key
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("select new com.projectmanage.main.model.dto.ExportedTask(t.id, t.milestone.id, t.title,"
+      + " t.description, t.completed, t.dueDate, t.createdAt, t.updatedAt)"
+      + " from Task t where t.project.id = :projectId order by t.id")
+  Stream<ExportedTask> streamExportByProjectId(@Param("projectId") Long projectId);
+
   Optional<Task> findByIdAndProjectId(Long taskId, Long projectId);
 
   boolean existsByIdAndProjectId(Long taskId, Long projectId);
+
+  List<Task> findByIdInAndProjectId(Collection<Long> taskIds, Long projectId);
+
+  // Keyset pages ordered by (updated_at DESC, id DESC), served by idx_tasks_project_updated
+  @Query("select t from Task t where t.project.id = :projectId"
+      + " order by t.updatedAt desc, t.id desc")
+  List<Task> findFirstPageByProjectId(@Param("projectId") Long projectId, Limit limit);
+
+  // The redundant updatedAt <= bound gives the planner an index range to start from
+  @Query("select t from Task t where t.project.id = :projectId and t.updatedAt <= :updatedAt"
+      + " and (t.updatedAt < :updatedAt or t.id < :id) order by t.updatedAt desc, t.id desc")
+  List<Task> findPageByProjectIdAfter(@Param("projectId") Long projectId,
+      @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Limit limit);
+
+  // Keyset pages ordered by (updated_at DESC, id DESC), served by idx_tasks_milestone_updated
+  @Query("select t from Task t where t.milestone.id = :milestoneId"
+      + " order by t.updatedAt desc, t.id desc")
+  List<Task> findFirstPageByMilestoneId(@Param("milestoneId") Long milestoneId, Limit limit);
+
+  @Query("select t from Task t where t.milestone.id = :milestoneId and t.updatedAt <= :updatedAt"
+      + " and (t.updatedAt < :updatedAt or t.id < :id) order by t.updatedAt desc, t.id desc")
+  List<Task> findPageByMilestoneIdAfter(@Param("milestoneId") Long milestoneId,
+      @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Limit limit);
+
+  // Soft delete bookkeeping; native, so tombstoned rows stay visible to these statements
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks"))
+  @Query(value = "UPDATE tasks SET deleted_at = :deletedAt"
+      + " WHERE project_id = :projectId AND deleted_at IS NULL", nativeQuery = true)
+  int softDeleteByProjectId(@Param("projectId") Long projectId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks"))
+  @Query(value = "UPDATE tasks SET deleted_at = :deletedAt"
+      + " WHERE milestone_id = :milestoneId AND deleted_at IS NULL", nativeQuery = true)
+  int softDeleteByMilestoneId(@Param("milestoneId") Long milestoneId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  // Only rows tombstoned together with their parent come back
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks"))
+  @Query(value = "UPDATE tasks SET deleted_at = NULL"
+      + " WHERE project_id = :projectId AND deleted_at = :deletedAt", nativeQuery = true)
+  int restoreByProjectId(@Param("projectId") Long projectId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks"))
+  @Query(value = "UPDATE tasks SET deleted_at = NULL"
+      + " WHERE milestone_id = :milestoneId AND deleted_at = :deletedAt", nativeQuery = true)
+  int restoreByMilestoneId(@Param("milestoneId") Long milestoneId,
+      @Param("deletedAt") LocalDateTime deletedAt);
+
+  // Next chunk of tombstoned task ids for the purger, in id order
+  @Query(value = "SELECT id FROM tasks WHERE project_id = :projectId AND deleted_at IS NOT NULL"
+      + " ORDER BY id LIMIT :limit", nativeQuery = true)
+  List<Long> findDeletedIdsByProjectId(@Param("projectId") Long projectId,
+      @Param("limit") int limit);
+
+  @Query(value = "SELECT id FROM tasks WHERE milestone_id = :milestoneId"
+      + " AND deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+  List<Long> findDeletedIdsByMilestoneId(@Param("milestoneId") Long milestoneId,
+      @Param("limit") int limit);
+
+  @Query(value = "SELECT count(*) FROM tasks WHERE project_id = :projectId", nativeQuery = true)
+  long countIncludingDeletedByProjectId(@Param("projectId") Long projectId);
+
+  @Query(value = "SELECT count(*) FROM tasks WHERE milestone_id = :milestoneId",
+      nativeQuery = true)
+  long countIncludingDeletedByMilestoneId(@Param("milestoneId") Long milestoneId);
+
+  // Bulk statements bypass the persistence context; comments must be deleted first
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks"))
+  @Query(value = "DELETE FROM tasks WHERE id IN (:taskIds)", nativeQuery = true)
+  int bulkDeleteByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "tasks"))
+  @Query(value = "UPDATE tasks SET milestone_id = NULL WHERE milestone_id = :milestoneId",
+      nativeQuery = true)
+  int detachFromMilestone(@Param("milestoneId") Long milestoneId);
 }
@@ -0,0 +1,120 @@
+package com.projectmanage.main.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.model.dto.DeletionResult;
+import com.projectmanage.main.repository.CommentRepository;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.TaskRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Set-based physical deletes of soft deleted projects and milestones. Tombstoned tasks are removed
+ * in chunks of ids, each chunk with one DELETE for its comments and one for the tasks in its own
+ * short transaction, with a pause between chunks to leave room for request traffic. Parents go
+ * last, in dependency order. A purge can stop after any chunk and be resumed by the next call.
+ */
+@Slf4j
+@Service
+public class CascadeDeleteService {
+
+  private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final Duration chunkPause;
+
+  public CascadeDeleteService(ProjectRepository projectRepository,
+      MilestoneRepository milestoneRepository, TaskRepository taskRepository,
+      CommentRepository commentRepository, TransactionTemplate transactionTemplate,
+      @Value("${app.deletion.chunk-size}") int chunkSize,
+      @Value("${app.deletion.purger.chunk-pause}") Duration chunkPause) {
+    this.projectRepository = projectRepository;
+    this.milestoneRepository = milestoneRepository;
+    this.taskRepository = taskRepository;
+    this.commentRepository = commentRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.chunkPause = chunkPause;
+  }
+
+  /**
+   * Physically delete a soft deleted project with its milestones, tasks and their comments, using
+   * at most {@code maxChunks} transactions.
+   */
+  public DeletionResult purgeProject(Long projectId, int maxChunks) {
+    DeletionResult result = new DeletionResult();
+    if (purgeTasks(result, maxChunks,
+        limit -> taskRepository.findDeletedIdsByProjectId(projectId, limit))) {
+      transactionTemplate.executeWithoutResult(status -> {
+        result.setMilestones(milestoneRepository.bulkDeleteByProjectId(projectId));
+        result.setProjects(projectRepository.bulkDeleteById(projectId));
+      });
+      result.setChunks(result.getChunks() + 1);
+      result.setComplete(true);
+      log.info("Purged project {}: {}", projectId, result);
+    }
+    return result;
+  }
+
+  /**
+   * Physically delete a soft deleted milestone with its tombstoned tasks and their comments, using
+   * at most {@code maxChunks} transactions.
+   */
+  public DeletionResult purgeMilestone(Long milestoneId, int maxChunks) {
+    DeletionResult result = new DeletionResult();
+    if (purgeTasks(result, maxChunks,
+        limit -> taskRepository.findDeletedIdsByMilestoneId(milestoneId, limit))) {
+      result.setMilestones(
+          transactionTemplate.execute(status -> milestoneRepository.bulkDeleteById(milestoneId)));
+      result.setChunks(result.getChunks() + 1);
+      result.setComplete(true);
+      log.info("Purged milestone {}: {}", milestoneId, result);
+    }
+    return result;
+  }
+
+  // Delete chunk after chunk; true once no tombstoned task is left
+  private boolean purgeTasks(DeletionResult result, int maxChunks,
+      IntFunction<List<Long>> nextTaskIds) {
+    while (result.getChunks() < maxChunks) {
+      boolean drained = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+        List<Long> taskIds = nextTaskIds.apply(chunkSize);
+        if (taskIds.isEmpty()) {
+          return true;
+        }
+        result.setComments(result.getComments() + commentRepository.bulkDeleteByTaskIdIn(taskIds));
+        result.setTasks(result.getTasks() + taskRepository.bulkDeleteByIdIn(taskIds));
+        return false;
+      }));
+      if (drained) {
+        return true;
+      }
+      result.setChunks(result.getChunks() + 1);
+      if (!pause()) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(chunkPause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
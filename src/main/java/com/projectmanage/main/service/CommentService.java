@@ -0,0 +1,143 @@
+package com.projectmanage.main.service;
+
+import java.nio.file.AccessDeniedException;
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.model.Comment;
+import com.projectmanage.main.model.Task;
+import com.projectmanage.main.model.User;
+import com.projectmanage.main.model.dto.CommentDTO;
+import com.projectmanage.main.model.mapper.CommentMapper;
+import com.projectmanage.main.repository.CommentRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.TaskRepository;
+import com.projectmanage.main.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+  // Repository
+  private final CommentRepository commentRepository;
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final UserRepository userRepository;
+  // Mapper
+  private final CommentMapper commentMapper;
+
+  // 댓글 목록 읽기
+  @Transactional(readOnly = true)
+  public List<CommentDTO> getCommentsByTaskId(Long projectId, Long taskId) {
+    checkTaskInProject(projectId, taskId);
+    return commentMapper.toDTOList(commentRepository.findByTaskId(taskId));
+  }
+
+  // 댓글 추가 (프로젝트 내용 버전도 같은 트랜잭션에서 올림)
+  @Transactional
+  public CommentDTO createComment(Long projectId, Long taskId, CommentDTO commentDTO,
+      UserDetails currentUser) {
+    projectRepository.findById(projectId)
+        .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+
+    Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
+        .orElseThrow(() -> new EntityNotFoundException(
+            "Task not found with id: " + taskId + " for Project " + projectId));
+
+    // Load the author by primary key; the cached principal already carries the id
+    Long currentUserId = resolveUserId(currentUser);
+    User user = userRepository.findById(currentUserId)
+        .orElseThrow(() -> new EntityNotFoundException(
+            "Authenticated user not found in database with id: " + currentUserId));
+
+    Comment comment =
+        Comment.builder().content(commentDTO.getContent()).task(task).user(user).build();
+
+    Comment savedComment = commentRepository.save(comment);
+    projectRepository.bumpContentVersion(projectId);
+    return commentMapper.toDTO(savedComment);
+  }
+
+  // 댓글 수정 (작성자 또는 관리자만)
+  @Transactional
+  public CommentDTO updateComment(Long projectId, Long taskId, Long commentId,
+      CommentDTO commentDTO, UserDetails currentUser) throws AccessDeniedException {
+    Comment existingComment = findCommentOfTask(projectId, taskId, commentId);
+    checkOwnershipOrAdmin(existingComment, currentUser);
+
+    existingComment.setContent(commentDTO.getContent());
+
+    Comment updatedComment = commentRepository.save(existingComment);
+    projectRepository.bumpContentVersion(projectId);
+    return commentMapper.toDTO(updatedComment);
+  }
+
+  // 댓글 삭제 (작성자 또는 관리자만)
+  @Transactional
+  public void deleteComment(Long projectId, Long taskId, Long commentId, UserDetails currentUser)
+      throws AccessDeniedException {
+    Comment commentToDelete = findCommentOfTask(projectId, taskId, commentId);
+    checkOwnershipOrAdmin(commentToDelete, currentUser);
+
+    commentRepository.deleteById(commentId);
+    projectRepository.bumpContentVersion(projectId);
+  }
+
+  private void checkTaskInProject(Long projectId, Long taskId) {
+    if (!projectRepository.existsById(projectId)) {
+      throw new EntityNotFoundException("Project not found with id: " + projectId);
+    }
+    if (!taskRepository.existsByIdAndProjectId(taskId, projectId)) {
+      throw new EntityNotFoundException(
+          "Task not found with id: " + taskId + " for Project " + projectId);
+    }
+  }
+
+  private Comment findCommentOfTask(Long projectId, Long taskId, Long commentId) {
+    checkTaskInProject(projectId, taskId);
+
+    Comment comment = commentRepository.findById(commentId)
+        .orElseThrow(() -> new EntityNotFoundException("Comment not found with id: " + commentId));
+
+    if (!comment.getTask().getId().equals(taskId)) {
+      throw new IllegalArgumentException(
+          "Comment " + commentId + " does not belong to Task " + taskId);
+    }
+    return comment;
+  }
+
+  private void checkOwnershipOrAdmin(Comment comment, UserDetails currentUser)
+      throws AccessDeniedException {
+    if (currentUser == null) {
+      throw new AccessDeniedException("User must be authenticated.");
+    }
+
+    Long currentUserId = resolveUserId(currentUser);
+
+    boolean isAdmin =
+        currentUser.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    boolean isOwner = comment.getUser().getId().equals(currentUserId);
+
+    if (!isAdmin && !isOwner) {
+      throw new AccessDeniedException("User does not have permission to modify this comment.");
+    }
+  }
+
+  // Cached principals carry the user id; other UserDetails fall back to a lookup by email
+  private Long resolveUserId(UserDetails currentUser) {
+    if (currentUser instanceof CustomUserDetails details && details.getId() != null) {
+      return details.getId();
+    }
+
+    String currentUsername = currentUser.getUsername();
+    return userRepository.findByEmail(currentUsername).map(User::getId)
+        .orElseThrow(() -> new EntityNotFoundException(
+            "Authenticated user not found in database with email: " + currentUsername));
+  }
+}
@@ -1,15 +1,19 @@
 package com.projectmanage.main.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import com.projectmanage.main.model.Milestone;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.projectmanage.main.model.dto.DeletionStatusDTO;
 import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.MilestoneProgressDTO;
 import com.projectmanage.main.model.dto.TaskDTO;
 import com.projectmanage.main.model.mapper.MilestoneMapper;
 import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -19,15 +23,28 @@ import lombok.extern.log4j.Log4j2;
 public class MilestoneService {
   // Service
   private final TaskService taskService;
+  private final SoftDeleteService softDeleteService;
   // Repository
   private final MilestoneRepository milestoneRepository;
+  private final ProjectRepository projectRepository;
   // Mapper
   private final MilestoneMapper milestoneMapper;
 
-  // 마일스톤 목록 읽기
+  // 마일스톤 목록 읽기 (테스크는 IN 쿼리 한 번으로 읽어 마일스톤별로 묶음)
   @Transactional(readOnly = true)
   public List<MilestoneDTO> getMilestoneList(Long projectId) {
-    return milestoneMapper.toDTOList(milestoneRepository.findByProjectId(projectId));
+    List<Milestone> milestones = milestoneRepository.findByProjectId(projectId);
+    Map<Long, List<TaskDTO>> tasksByMilestone =
+        taskService.getTasksByMilestoneIds(milestones.stream().map(Milestone::getId).toList());
+    return milestones.stream().map(milestone -> milestoneMapper.toDTO(milestone,
+        tasksByMilestone.getOrDefault(milestone.getId(), List.of()))).toList();
+  }
+
+  // 마일스톤 진행률 목록 읽기 (테스크 목록 없이 카운터 컬럼의 개수와 진행률만)
+  @Transactional(readOnly = true)
+  public List<MilestoneProgressDTO> getMilestoneProgressList(Long projectId) {
+    return milestoneRepository.findByProjectId(projectId).stream()
+        .map(milestoneMapper::toProgressDTO).toList();
   }
 
   // 마일스톤 읽기
@@ -49,7 +66,12 @@ public class MilestoneService {
     if (!isValidMilestone(milestoneDTO)) {
       throw new IllegalArgumentException("Invalid milestone");
     }
-    return milestoneMapper.toDTO(milestoneRepository.save(milestoneMapper.toEntity(milestoneDTO)));
+    // 검증 쿼리가 프로젝트 존재까지 확인하므로 프로젝트는 참조만 연결
+    Milestone milestone =
+        milestoneMapper.toEntity(milestoneDTO, projectRepository.getReferenceById(projectId));
+    milestone = milestoneRepository.save(milestone);
+    projectRepository.bumpContentVersion(projectId);
+    return milestoneMapper.toDTO(milestone);
   }
 
   // 마일스톤 수정
@@ -62,27 +84,31 @@ public class MilestoneService {
       if (!isValidMilestoneTwo(milestoneDTO)) {
         throw new IllegalArgumentException("Invalid milestone");
       }
-      Milestone newMilestone = milestoneRepository.save(milestoneMapper.toEntity(milestoneDTO));
-      return milestoneMapper.toDTO(newMilestone);
+      // 영속 상태의 마일스톤에 수정 항목만 반영(변경 감지로 UPDATE)
+      Milestone existingMilestone = milestoneRepository.findById(milestoneId).orElseThrow(
+          () -> new IllegalArgumentException("Milestone not found with id: " + milestoneId));
+      milestoneMapper.updateEntity(milestoneDTO, existingMilestone);
+      projectRepository.bumpContentVersion(existingMilestone.getProject().getId());
+      return milestoneMapper.toDTO(existingMilestone);
     } catch (Exception e) {
       log.error("Error occurred while updating milestone: {}", e.getMessage());
     }
     return null;
   }
 
-  // 마일스톤 삭제(DELETE CASCADE)
-  @Transactional
-  public void deleteMilestone(Long milestoneId, Boolean isCascadeDelete) {
-    try {
-      if (isCascadeDelete) {
-        List<Long> taskIds =
-            taskService.getTasksByMilestoneId(milestoneId).stream().map(TaskDTO::getId).toList();
-        taskIds.forEach(taskService::deleteTask);
-      }
-      milestoneRepository.deleteById(milestoneId);
-    } catch (Exception e) {
-      log.error("Error occurred while deleting milestone: {}", e.getMessage());
-    }
+  // 마일스톤 삭제(isCascadeDelete 시 테스크까지 soft delete, 아니면 테스크만 분리)
+  public DeletionStatusDTO deleteMilestone(Long milestoneId, Boolean isCascadeDelete) {
+    return softDeleteService.deleteMilestone(milestoneId, Boolean.TRUE.equals(isCascadeDelete));
+  }
+
+  // 삭제된 마일스톤 복구(복구 기간 내, 프로젝트가 삭제되지 않은 경우만 가능)
+  public DeletionStatusDTO restoreMilestone(Long milestoneId) {
+    return softDeleteService.restoreMilestone(milestoneId);
+  }
+
+  // 마일스톤 삭제 진행 상태
+  public DeletionStatusDTO getDeletionStatus(Long milestoneId) {
+    return softDeleteService.getMilestoneStatus(milestoneId);
   }
 
   // 마일스톤 검증
@@ -93,9 +119,8 @@ public class MilestoneService {
       return false;
     }
 
-    // 같은 프로젝트 내 중복여부 검증
-    if (milestoneRepository.existsByProjectIdAndTitle(milestone.getProjectId(),
-        milestone.getTitle())) {
+    // 프로젝트 존재여부와 같은 프로젝트 내 중복여부를 한 번에 검증
+    if (!milestoneRepository.isTitleAvailable(milestone.getProjectId(), milestone.getTitle())) {
       return false;
     }
 
@@ -0,0 +1,109 @@
+package com.projectmanage.main.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+
+import com.projectmanage.main.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs bcrypt work on a small dedicated pool instead of Tomcat request threads. The queue is
+ * bounded; once it is full new work is rejected immediately with {@link ServiceBusyException}, so
+ * a login burst degrades into fast 503s instead of stalling every other endpoint.
+ *
+ * <p>
+ * Only the hashing itself runs on the pool. Whatever follows it, database work in particular, is
+ * handed to the application task executor so a slow query never holds a hashing thread and runs
+ * outside any transaction bound to it.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+  private final ThreadPoolExecutor executor;
+  private final Executor continuationExecutor;
+  private final int strength;
+  private final Timer queueWaitTimer;
+  private final Timer hashTimer;
+
+  public PasswordHashingService(MeterRegistry meterRegistry,
+      @Value("${app.security.password-hashing.threads}") int threads,
+      @Value("${app.security.password-hashing.queue-capacity}") int queueCapacity,
+      @Value("${app.security.bcrypt.strength}") int strength,
+      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+      Executor continuationExecutor) {
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+          Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    this.continuationExecutor = continuationExecutor;
+    this.strength = strength;
+    this.queueWaitTimer = Timer.builder("auth.password_hash.queue_wait")
+        .description("Time hashing work spent waiting for a worker").register(meterRegistry);
+    this.hashTimer = Timer.builder("auth.password_hash.duration")
+        .description("Time spent hashing or verifying a password").register(meterRegistry);
+    Gauge.builder("auth.password_hash.queue_depth", executor, e -> e.getQueue().size())
+        .description("Hashing tasks waiting for a worker").register(meterRegistry);
+  }
+
+  /**
+   * Queue hashing work on the dedicated pool.
+   *
+   * @throws ServiceBusyException when the queue is full
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> hashingWork) {
+    long enqueuedAt = System.nanoTime();
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        return hashTimer.record(hashingWork);
+      }, executor);
+    } catch (RejectedExecutionException e) {
+      log.warn("Password hashing queue is full, rejecting request");
+      throw new ServiceBusyException("Too many authentication requests, please retry shortly");
+    }
+  }
+
+  /**
+   * Queue hashing work on the dedicated pool, then apply {@code continuation} to its result on the
+   * application task executor. The returned future therefore never completes on a hashing thread.
+   *
+   * @throws ServiceBusyException when the queue is full
+   */
+  public <T, R> CompletableFuture<R> submit(Supplier<T> hashingWork,
+      Function<? super T, ? extends R> continuation) {
+    return submit(hashingWork).thenApplyAsync(continuation, continuationExecutor);
+  }
+
+  // A stored hash needs rehashing when it was produced with a different bcrypt cost
+  public boolean needsRehash(String encodedPassword) {
+    // bcrypt hashes look like $2a$10$..., the two digits after the version are the cost
+    return encodedPassword.length() > 6
+        && !encodedPassword.substring(4, 6).equals(String.format("%02d", strength));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
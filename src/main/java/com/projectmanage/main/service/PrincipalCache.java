@@ -0,0 +1,65 @@
+package com.projectmanage.main.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node-local cache of authenticated principals keyed by email. Entries are immutable
+ * {@link CustomUserDetails} snapshots that expire after a short TTL, which bounds how long another
+ * replica can serve a stale profile or role.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+  private final UserRepository userRepository;
+  private final Cache<String, CustomUserDetails> cache;
+
+  public PrincipalCache(UserRepository userRepository,
+      @Value("${app.security.principal-cache.ttl}") Duration ttl,
+      @Value("${app.security.principal-cache.max-size}") long maxSize) {
+    this.userRepository = userRepository;
+    this.cache = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+  }
+
+  // Unknown users are not cached, so a later registration is picked up immediately
+  public Optional<CustomUserDetails> get(String email) {
+    return Optional.ofNullable(cache.get(email,
+        key -> userRepository.findByEmail(key).map(CustomUserDetails::new).orElse(null)));
+  }
+
+  public void invalidate(String email) {
+    cache.invalidate(email);
+  }
+
+  /**
+   * Evict the entry once the surrounding transaction commits, so a concurrent request cannot
+   * reload the pre-update row into the cache.
+   */
+  public void invalidateAfterCommit(String email) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate(email);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        log.debug("Evicting cached principal for {}", email);
+        invalidate(email);
+      }
+    });
+  }
+}
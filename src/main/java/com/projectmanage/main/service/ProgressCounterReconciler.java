@@ -0,0 +1,105 @@
+package com.projectmanage.main.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.cluster.ClusterLock;
+import com.projectmanage.main.cluster.EntityCacheInvalidator;
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically recounts the denormalized task counters of projects and milestones from the tasks
+ * table and repairs rows that drifted (writes that bypassed TaskService, manual SQL, or a race
+ * with a recount). Works through id ranges, one short transaction per range, and only on the
+ * replica holding the advisory lock. Soft deleted rows are left alone: their tasks are hidden as
+ * well, and a restore relies on the counts they had when they were deleted.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.progress-counters.reconciler.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class ProgressCounterReconciler {
+
+  private static final long RECONCILE_LOCK_KEY = 0x5052_4f47_0001L;
+
+  private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final ClusterLock clusterLock;
+  private final EntityCacheInvalidator entityCacheInvalidator;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Counter repairedCounter;
+
+  public ProgressCounterReconciler(ProjectRepository projectRepository,
+      MilestoneRepository milestoneRepository, ClusterLock clusterLock,
+      EntityCacheInvalidator entityCacheInvalidator, TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${app.progress-counters.reconciler.batch-size}") int batchSize) {
+    this.projectRepository = projectRepository;
+    this.milestoneRepository = milestoneRepository;
+    this.clusterLock = clusterLock;
+    this.entityCacheInvalidator = entityCacheInvalidator;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.repairedCounter = Counter.builder("progress_counters.reconciler.repaired")
+        .description("Project and milestone rows whose task counters had drifted")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.progress-counters.reconciler.interval}",
+      initialDelayString = "${app.progress-counters.reconciler.interval}")
+  public void reconcile() {
+    try {
+      clusterLock.runExclusively(RECONCILE_LOCK_KEY, this::reconcileAll).filter(n -> n > 0)
+          .ifPresent(repaired -> log.warn("Repaired drifted task counters on {} rows", repaired));
+    } catch (Exception e) {
+      log.error("Progress counter reconciliation failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Recount every project and milestone.
+   *
+   * @return number of rows that were repaired
+   */
+  public long reconcileAll() {
+    long repaired = 0;
+    long maxProjectId = projectRepository.findMaxId();
+    for (long from = 1; from <= maxProjectId; from += batchSize) {
+      long rangeStart = from;
+      long rangeEnd = from + batchSize - 1;
+      repaired += transactionTemplate.execute(
+          status -> projectRepository.reconcileProgressCounters(rangeStart, rangeEnd));
+    }
+    long maxMilestoneId = milestoneRepository.findMaxId();
+    for (long from = 1; from <= maxMilestoneId; from += batchSize) {
+      long rangeStart = from;
+      long rangeEnd = from + batchSize - 1;
+      repaired += transactionTemplate.execute(status -> {
+        int rows = milestoneRepository.reconcileProgressCounters(rangeStart, rangeEnd);
+        if (rows > 0) {
+          // Milestone counters show in their project's responses
+          projectRepository.bumpContentVersionByMilestoneRange(rangeStart, rangeEnd);
+        }
+        return rows;
+      });
+    }
+    repairedCounter.increment(repaired);
+    if (repaired > 0) {
+      // Which rows were repaired is not known, so the other replicas drop both regions
+      entityCacheInvalidator.evictAllAfterCommit(Project.class);
+      entityCacheInvalidator.evictAllAfterCommit(Milestone.class);
+    }
+    return repaired;
+  }
+}
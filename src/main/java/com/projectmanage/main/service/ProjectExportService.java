@@ -0,0 +1,130 @@
+package com.projectmanage.main.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanage.main.exception.ProjectAccessDeniedException;
+import com.projectmanage.main.exception.ServiceBusyException;
+import com.projectmanage.main.model.dto.ExportRecord;
+import com.projectmanage.main.model.dto.ExportedProject;
+import com.projectmanage.main.repository.CommentRepository;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.TaskRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a project as NDJSON: the project, then its milestones, tasks and comments, one
+ * {@link ExportRecord} per line. Rows are read as unmanaged projections through server-side
+ * cursors and written as they arrive, so memory use does not depend on the project's size. Each
+ * running export holds a connection for its whole duration, so only a few may run at once per node.
+ */
+@Slf4j
+@Service
+public class ProjectExportService {
+
+  private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+  private final ObjectWriter recordWriter;
+  private final TransactionTemplate snapshotTemplate;
+  private final Semaphore exportSlots;
+
+  public ProjectExportService(ProjectRepository projectRepository,
+      MilestoneRepository milestoneRepository, TaskRepository taskRepository,
+      CommentRepository commentRepository, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.exports.concurrency}") int concurrency) {
+    this.projectRepository = projectRepository;
+    this.milestoneRepository = milestoneRepository;
+    this.taskRepository = taskRepository;
+    this.commentRepository = commentRepository;
+    this.recordWriter = objectMapper.writerFor(ExportRecord.class);
+    // One snapshot for all four queries, so every reference in the file resolves within it
+    this.snapshotTemplate = new TransactionTemplate(transactionManager);
+    snapshotTemplate.setReadOnly(true);
+    snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.exportSlots = new Semaphore(concurrency);
+  }
+
+  // 내보내기 권한 확인 (소유자 또는 관리자), 응답을 시작하기 전에 호출
+  public void checkExportAllowed(Long projectId, Long userId, boolean admin) {
+    Long ownerId = projectRepository.findOwnerIdById(projectId)
+        .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+    if (!admin && !ownerId.equals(userId)) {
+      throw new ProjectAccessDeniedException("Only the owner can export project " + projectId);
+    }
+  }
+
+  /**
+   * Take one of this node's export slots; it must be given back through
+   * {@link #releaseExportSlot()} once the export has ended, however it ended.
+   *
+   * @throws ServiceBusyException when every slot is taken
+   */
+  public void acquireExportSlot() {
+    if (!exportSlots.tryAcquire()) {
+      throw new ServiceBusyException("Too many exports in progress, please retry later");
+    }
+  }
+
+  public void releaseExportSlot() {
+    exportSlots.release();
+  }
+
+  /**
+   * Write the export to the stream. Runs on the calling thread in one read-only transaction; the
+   * stream is flushed but not closed.
+   */
+  public void export(Long projectId, OutputStream out) throws IOException {
+    try {
+      long lines = snapshotTemplate.execute(status -> {
+        ExportedProject project = projectRepository.findExportById(projectId).orElseThrow(
+            () -> new EntityNotFoundException("Project not found with id: " + projectId));
+        write(project, out);
+        return 1 + writeAll(milestoneRepository.streamExportByProjectId(projectId), out)
+            + writeAll(taskRepository.streamExportByProjectId(projectId), out)
+            + writeAll(commentRepository.streamExportByProjectId(projectId), out);
+      });
+      out.flush();
+      log.info("Exported project {} as {} lines", projectId, lines);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private long writeAll(Stream<? extends ExportRecord> records, OutputStream out) {
+    long count = 0;
+    try (records) {
+      for (Iterator<? extends ExportRecord> it = records.iterator(); it.hasNext(); count++) {
+        write(it.next(), out);
+      }
+    }
+    return count;
+  }
+
+  // Each record goes through a small array; writing to the stream directly would close it
+  private void write(ExportRecord record, OutputStream out) {
+    try {
+      out.write(recordWriter.writeValueAsBytes(record));
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,395 @@
+package com.projectmanage.main.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.projectmanage.main.config.ImportProperties;
+import com.projectmanage.main.exception.BatchTooLargeException;
+import com.projectmanage.main.exception.InvalidImportException;
+import com.projectmanage.main.exception.ServiceBusyException;
+import com.projectmanage.main.model.ImportJob;
+import com.projectmanage.main.model.ImportJob.Format;
+import com.projectmanage.main.model.ImportJob.Status;
+import com.projectmanage.main.model.dto.ExportRecord;
+import com.projectmanage.main.model.dto.ExportedComment;
+import com.projectmanage.main.model.dto.ExportedMilestone;
+import com.projectmanage.main.model.dto.ExportedProject;
+import com.projectmanage.main.model.dto.ExportedTask;
+import com.projectmanage.main.model.dto.ImportJobDTO;
+import com.projectmanage.main.model.mapper.ImportJobMapper;
+import com.projectmanage.main.repository.ImportJobRepository;
+import com.projectmanage.main.repository.ProjectImportRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports a project from the export's NDJSON, or from CSV with the same fields, as a background
+ * job. The upload is spooled to a temporary file so the request returns at once; a small pool then
+ * loads each file in one transaction through {@link ProjectImportRepository}, which either imports
+ * everything or nothing. Progress is written to the job row in separate transactions as it goes.
+ */
+@Slf4j
+@Service
+public class ProjectImportService {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_HEADER_BYTES = 1024;
+  private static final int MAX_ERROR_LENGTH = 1000;
+  private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final ImportJobRepository importJobRepository;
+  private final ProjectImportRepository projectImportRepository;
+  private final ImportJobMapper importJobMapper;
+  private final ObjectReader recordReader;
+  private final TransactionTemplate importTemplate;
+  private final TransactionTemplate progressTemplate;
+  private final ThreadPoolExecutor executor;
+  private final long maxSizeBytes;
+  private final long maxUncompressedSizeBytes;
+  private final Timer importTimer;
+
+  public ProjectImportService(ImportJobRepository importJobRepository,
+      ProjectImportRepository projectImportRepository, ImportJobMapper importJobMapper,
+      ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry, ImportProperties properties) {
+    this.importJobRepository = importJobRepository;
+    this.projectImportRepository = projectImportRepository;
+    this.importJobMapper = importJobMapper;
+    this.recordReader = objectMapper.readerFor(ExportRecord.class);
+    this.importTemplate = new TransactionTemplate(transactionManager);
+    // Job updates commit on their own, even while the import's transaction is open or rolling back
+    this.progressTemplate = new TransactionTemplate(transactionManager);
+    progressTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    AtomicInteger threadCount = new AtomicInteger();
+    int threads = properties.getThreads();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+          Thread thread = new Thread(runnable, "project-import-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    this.maxSizeBytes = properties.getMaxSize().toBytes();
+    this.maxUncompressedSizeBytes = properties.getMaxUncompressedSize().toBytes();
+    this.importTimer = Timer.builder("imports.duration")
+        .description("Time from picking up an import job to its commit or failure")
+        .register(meterRegistry);
+  }
+
+  // 가져오기 작업 등록: 업로드를 임시 파일에 저장한 뒤 백그라운드에서 처리 (대기열이 차면 503)
+  public ImportJobDTO submit(Long userId, Format format, boolean gzip, InputStream body)
+      throws IOException {
+    // Checked before the upload is read as well, so a full queue does not cost a spooled file
+    if (executor.getQueue().remainingCapacity() == 0) {
+      throw busy();
+    }
+    Path spool = spool(body);
+    ImportJob job = importJobRepository.save(ImportJob.builder().userId(userId)
+        .status(Status.QUEUED).format(format).totalBytes(Files.size(spool)).build());
+    // Mapped before the worker starts changing the job
+    ImportJobDTO queued = importJobMapper.toDTO(job);
+    try {
+      executor.execute(() -> run(job, spool, gzip));
+    } catch (RejectedExecutionException e) {
+      importJobRepository.delete(job);
+      deleteSpool(spool);
+      throw busy();
+    }
+    return queued;
+  }
+
+  // 가져오기 작업 상태 조회 (본인 작업만)
+  public ImportJobDTO getJob(Long jobId, Long userId) {
+    return importJobRepository.findByIdAndUserId(jobId, userId).map(importJobMapper::toDTO)
+        .orElseThrow(() -> new EntityNotFoundException("Import job not found with id: " + jobId));
+  }
+
+  private Path spool(InputStream body) throws IOException {
+    Path spool = Files.createTempFile("project-import-", ".spool");
+    try (OutputStream out = Files.newOutputStream(spool)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      long total = 0;
+      for (int n = body.read(buffer); n != -1; n = body.read(buffer)) {
+        total += n;
+        if (total > maxSizeBytes) {
+          throw new BatchTooLargeException("Imports are limited to " + maxSizeBytes + " bytes");
+        }
+        out.write(buffer, 0, n);
+      }
+    } catch (IOException | RuntimeException e) {
+      deleteSpool(spool);
+      throw e;
+    }
+    return spool;
+  }
+
+  private void run(ImportJob job, Path spool, boolean gzip) {
+    long startedAt = System.nanoTime();
+    try {
+      job.setStatus(Status.LOADING);
+      record(job);
+      long projectId = importTemplate.execute(status -> load(job, spool, gzip));
+      job.setStatus(Status.COMPLETED);
+      job.setProjectId(projectId);
+      job.setFinishedAt(LocalDateTime.now());
+      record(job);
+      log.info("Import job {} created project {} with {} milestones, {} tasks, {} comments",
+          job.getId(), projectId, job.getMilestoneCount(), job.getTaskCount(),
+          job.getCommentCount());
+    } catch (Exception e) {
+      String error = errorMessage(e);
+      log.warn("Import job {} failed: {}", job.getId(), error);
+      // The transaction rolled back, so none of the counted rows exist
+      job.setStatus(Status.FAILED);
+      job.setError(error);
+      job.setMilestoneCount(0);
+      job.setTaskCount(0);
+      job.setCommentCount(0);
+      job.setFinishedAt(LocalDateTime.now());
+      record(job);
+    } finally {
+      importTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      deleteSpool(spool);
+    }
+  }
+
+  // Runs in the import's transaction; the staging tables live until it ends
+  private long load(ImportJob job, Path spool, boolean gzip) {
+    projectImportRepository.createStagingTables();
+    long stagedRows;
+    try (InputStream in = open(job, spool, gzip)) {
+      stagedRows = job.getFormat() == Format.CSV ? stageCsv(in) : stageNdjson(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    job.setStatus(Status.INSERTING);
+    job.setProcessedBytes(job.getTotalBytes());
+    job.setStagedRows(stagedRows);
+    record(job);
+
+    projectImportRepository.indexStaging();
+    projectImportRepository.findProblem().ifPresent(problem -> {
+      throw new InvalidImportException(problem);
+    });
+    projectImportRepository.allocateIds();
+    long projectId = projectImportRepository.insertProject(job.getUserId());
+    job.setMilestoneCount(projectImportRepository.insertMilestones(projectId));
+    record(job);
+    job.setTaskCount(projectImportRepository.insertTasks(projectId));
+    record(job);
+    job.setCommentCount(projectImportRepository.insertComments(job.getUserId()));
+    return projectId;
+  }
+
+  private InputStream open(ImportJob job, Path spool, boolean gzip) throws IOException {
+    // Progress is counted on the file as uploaded, before decompression
+    InputStream in = new ProgressInputStream(Files.newInputStream(spool), job);
+    if (gzip) {
+      // A small upload can inflate to far more than max-size, so the inflated bytes are capped too
+      in = new LimitedInputStream(new GZIPInputStream(in, BUFFER_SIZE), maxUncompressedSizeBytes);
+    }
+    return new BufferedInputStream(in, BUFFER_SIZE);
+  }
+
+  // Postgres parses the CSV itself; only the header is read here, to name the columns
+  private long stageCsv(InputStream in) throws IOException {
+    return projectImportRepository.copyCsv(readHeader(in), in);
+  }
+
+  private long stageNdjson(InputStream in) throws IOException {
+    MappingIterator<ExportRecord> records = recordReader.readValues(in);
+    return projectImportRepository.copyCsv(ProjectImportRepository.COLUMNS, out -> {
+      Writer writer =
+          new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+      try (records) {
+        while (records.hasNextValue()) {
+          writeRow(writer, records.nextValue());
+        }
+      }
+      writer.flush();
+    });
+  }
+
+  static List<String> readHeader(InputStream in) throws IOException {
+    ByteArrayOutputStream header = new ByteArrayOutputStream();
+    for (int b = in.read(); b != '\n'; b = in.read()) {
+      if (b == -1 || header.size() == MAX_HEADER_BYTES) {
+        throw new InvalidImportException("CSV import must start with a header line");
+      }
+      header.write(b);
+    }
+    String line = header.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").strip();
+    return Arrays.stream(line.split(",")).map(name -> name.strip().toLowerCase(Locale.ROOT))
+        .toList();
+  }
+
+  // One CSV row per record, fields in ProjectImportRepository.COLUMNS order
+  static void writeRow(Writer out, ExportRecord record) throws IOException {
+    Object[] fields = switch (record) {
+      case ExportedProject p -> new Object[] {"project", p.id(), null, null, null, p.title(),
+          p.description(), null, null, null, p.createdAt(), p.updatedAt()};
+      case ExportedMilestone m -> new Object[] {"milestone", m.id(), null, null, null, m.title(),
+          m.description(), null, m.completed(), null, m.createdAt(), m.updatedAt()};
+      case ExportedTask t -> new Object[] {"task", t.id(), t.milestoneId(), null, null, t.title(),
+          t.description(), null, t.completed(), t.dueDate(), t.createdAt(), t.updatedAt()};
+      case ExportedComment c -> new Object[] {"comment", c.id(), null, c.taskId(), c.userId(),
+          null, null, c.content(), null, null, c.createdAt(), c.updatedAt()};
+    };
+    for (int i = 0; i < fields.length; i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      // In CSV mode an unquoted empty field is NULL and a quoted one is an empty string
+      if (fields[i] instanceof String text) {
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+      } else if (fields[i] != null) {
+        out.write(fields[i].toString());
+      }
+    }
+    out.write('\n');
+  }
+
+  private void record(ImportJob job) {
+    job.setUpdatedAt(LocalDateTime.now());
+    progressTemplate.executeWithoutResult(status -> importJobRepository.save(job));
+  }
+
+  // Postgres reports bad CSV input with its line and column, so the innermost message is kept
+  private static String errorMessage(Exception e) {
+    Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+    String message = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+    return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+  }
+
+  private static void deleteSpool(Path spool) {
+    try {
+      Files.deleteIfExists(spool);
+    } catch (IOException e) {
+      log.warn("Could not delete import spool file {}: {}", spool, e.getMessage());
+    }
+  }
+
+  private static ServiceBusyException busy() {
+    return new ServiceBusyException("Too many imports in progress, please retry later");
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  // Fails the read that would take the stream past its limit
+  static class LimitedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long remaining;
+
+    LimitedInputStream(InputStream in, long limit) {
+      super(in);
+      this.limit = limit;
+      this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        consume(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int n = super.read(buffer, offset, length);
+      if (n > 0) {
+        consume(n);
+      }
+      return n;
+    }
+
+    private void consume(long n) {
+      remaining -= n;
+      if (remaining < 0) {
+        throw new BatchTooLargeException(
+            "Imports are limited to " + limit + " bytes after decompression");
+      }
+    }
+  }
+
+  // Counts the bytes read and writes them to the job at most once per interval
+  private class ProgressInputStream extends FilterInputStream {
+
+    private final ImportJob job;
+    private long bytesRead;
+    private long reportedAt = System.nanoTime();
+
+    ProgressInputStream(InputStream in, ImportJob job) {
+      super(in);
+      this.job = job;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        advance(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int n = super.read(buffer, offset, length);
+      if (n > 0) {
+        advance(n);
+      }
+      return n;
+    }
+
+    private void advance(long n) {
+      bytesRead += n;
+      long now = System.nanoTime();
+      if (now - reportedAt >= PROGRESS_INTERVAL_NANOS) {
+        reportedAt = now;
+        job.setProcessedBytes(bytesRead);
+        record(job);
+      }
+    }
+  }
+}
@@ -0,0 +1,370 @@
+package com.projectmanage.main.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.projectmanage.main.cluster.EntityCacheInvalidator;
+import com.projectmanage.main.exception.BatchTooLargeException;
+import com.projectmanage.main.exception.OperationFailedException;
+import com.projectmanage.main.exception.ProjectAccessDeniedException;
+import com.projectmanage.main.model.Comment;
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.Task;
+import com.projectmanage.main.model.dto.CommentDTO;
+import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.ProjectOperation;
+import com.projectmanage.main.model.dto.ProjectOperation.Action;
+import com.projectmanage.main.model.dto.ProjectOperationResult;
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.model.mapper.CommentMapper;
+import com.projectmanage.main.model.mapper.MilestoneMapper;
+import com.projectmanage.main.model.mapper.TaskMapper;
+import com.projectmanage.main.repository.CommentRepository;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.TaskRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies an ordered list of task, milestone and comment changes to one project in a single
+ * transaction. Every row the operations refer to is loaded up front with one query per table, the
+ * changes are applied to managed entities in memory, and everything is written in one flush at the
+ * end, so the inserts and updates go out as JDBC batches. Progress counters are adjusted once per
+ * touched project and milestone. Any failure rolls back the whole request. Only the project's
+ * owner, or an administrator, may apply operations to it.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectOperationService {
+
+  private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+  private final UserRepository userRepository;
+  private final MilestoneService milestoneService;
+  private final SoftDeleteService softDeleteService;
+  private final TaskMapper taskMapper;
+  private final MilestoneMapper milestoneMapper;
+  private final CommentMapper commentMapper;
+  private final EntityCacheInvalidator entityCacheInvalidator;
+
+  @Value("${app.operations.max-size}")
+  private int maxOperations;
+
+  @Transactional
+  public List<ProjectOperationResult> apply(Long projectId, Long userId, boolean admin,
+      List<ProjectOperation> operations) {
+    if (operations.size() > maxOperations) {
+      throw new BatchTooLargeException(
+          "At most " + maxOperations + " operations per request, got " + operations.size());
+    }
+    Project project = projectRepository.findById(projectId)
+        .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+    if (!admin && !project.getUser().getId().equals(userId)) {
+      throw new ProjectAccessDeniedException("Only the owner can change project " + projectId);
+    }
+
+    Batch batch = new Batch(project, userId, admin);
+    batch.preload(operations);
+    List<Object> changed = new ArrayList<>();
+    for (int index = 0; index < operations.size(); index++) {
+      try {
+        changed.add(batch.apply(operations.get(index)));
+      } catch (RuntimeException e) {
+        throw new OperationFailedException(index, e.getMessage());
+      }
+    }
+    try {
+      batch.writeCounters();
+      batch.deleteTasks();
+      projectRepository.bumpContentVersion(projectId);
+      taskRepository.flush();
+    } catch (RuntimeException e) {
+      throw new OperationFailedException(-1, e.getMessage());
+    }
+
+    List<ProjectOperationResult> results = new ArrayList<>(operations.size());
+    for (int index = 0; index < operations.size(); index++) {
+      ProjectOperation operation = operations.get(index);
+      Object entity = changed.get(index);
+      results.add(ProjectOperationResult.builder().index(index).action(operation.getAction())
+          .target(operation.getTarget()).id(idOf(operation, entity)).data(toDTO(entity))
+          .build());
+    }
+    return results;
+  }
+
+  private Long idOf(ProjectOperation operation, Object entity) {
+    if (entity instanceof Task task) {
+      return task.getId();
+    }
+    if (entity instanceof Milestone milestone) {
+      return milestone.getId();
+    }
+    if (entity instanceof Comment comment) {
+      return comment.getId();
+    }
+    return operation.getId();
+  }
+
+  private Object toDTO(Object entity) {
+    if (entity instanceof Task task) {
+      return taskMapper.toDTO(task);
+    }
+    if (entity instanceof Milestone milestone) {
+      return milestoneMapper.toDTO(milestone, List.of());
+    }
+    if (entity instanceof Comment comment) {
+      return commentMapper.toDTO(comment);
+    }
+    return null;
+  }
+
+  // State shared by the operations of one request
+  private final class Batch {
+
+    private final Project project;
+    private final Long userId;
+    private final boolean admin;
+    private final Map<Long, Task> tasks = new HashMap<>();
+    private final Map<Long, Milestone> milestones = new HashMap<>();
+    private final Map<Long, Comment> comments = new HashMap<>();
+    private final Set<Long> deletedTaskIds = new LinkedHashSet<>();
+    // Counter deltas as {tasks, completed}, keyed by milestone id; null key is the project
+    private final Map<Long, int[]> counterDeltas = new HashMap<>();
+
+    Batch(Project project, Long userId, boolean admin) {
+      this.project = project;
+      this.userId = userId;
+      this.admin = admin;
+    }
+
+    // One query per table for every row referenced anywhere in the request
+    void preload(List<ProjectOperation> operations) {
+      Set<Long> taskIds = new HashSet<>();
+      Set<Long> milestoneIds = new HashSet<>();
+      Set<Long> commentIds = new HashSet<>();
+      for (ProjectOperation operation : operations) {
+        if (operation.getTarget() == null || operation.getAction() == null) {
+          continue;
+        }
+        Set<Long> ids = switch (operation.getTarget()) {
+          case TASK -> taskIds;
+          case MILESTONE -> milestoneIds;
+          case COMMENT -> commentIds;
+        };
+        if (operation.getAction() != Action.CREATE && operation.getId() != null) {
+          ids.add(operation.getId());
+        }
+        if (operation.getTask() != null && operation.getTask().getMilestoneId() != null) {
+          milestoneIds.add(operation.getTask().getMilestoneId());
+        }
+        if (operation.getComment() != null && operation.getComment().getTaskId() != null) {
+          taskIds.add(operation.getComment().getTaskId());
+        }
+      }
+
+      Long projectId = project.getId();
+      if (!taskIds.isEmpty()) {
+        tasks.putAll(taskRepository.findByIdInAndProjectId(taskIds, projectId).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity())));
+      }
+      if (!milestoneIds.isEmpty()) {
+        milestones.putAll(milestoneRepository.findByIdInAndProjectId(milestoneIds, projectId)
+            .stream().collect(Collectors.toMap(Milestone::getId, Function.identity())));
+      }
+      if (!commentIds.isEmpty()) {
+        comments.putAll(commentRepository.findByIdInAndProjectId(commentIds, projectId).stream()
+            .collect(Collectors.toMap(Comment::getId, Function.identity())));
+      }
+    }
+
+    // Returns the created or changed entity, or null for deletes
+    Object apply(ProjectOperation operation) {
+      Objects.requireNonNull(operation.getAction(), "action is required");
+      Objects.requireNonNull(operation.getTarget(), "target is required");
+      return switch (operation.getTarget()) {
+        case TASK -> applyTask(operation);
+        case MILESTONE -> applyMilestone(operation);
+        case COMMENT -> applyComment(operation);
+      };
+    }
+
+    private Task applyTask(ProjectOperation operation) {
+      if (operation.getAction() == Action.CREATE) {
+        TaskDTO taskDTO = payload(operation.getTask());
+        Task task = taskMapper.toEntity(taskDTO, project, milestone(taskDTO.getMilestoneId()));
+        taskRepository.save(task);
+        count(task, 1);
+        return task;
+      }
+
+      Task task = task(operation.getId());
+      if (operation.getAction() == Action.DELETE) {
+        tasks.remove(task.getId());
+        deletedTaskIds.add(task.getId());
+        count(task, -1);
+        return null;
+      }
+
+      TaskDTO taskDTO = payload(operation.getTask());
+      count(task, -1);
+      task.setTitle(taskDTO.getTitle());
+      task.setDescription(taskDTO.getDescription());
+      task.setCompleted(taskDTO.isCompleted());
+      task.setDueDate(taskDTO.getDueDate());
+      task.setMilestone(milestone(taskDTO.getMilestoneId()));
+      task.setUpdatedAt(LocalDateTime.now());
+      count(task, 1);
+      return task;
+    }
+
+    private Milestone applyMilestone(ProjectOperation operation) {
+      if (operation.getAction() == Action.CREATE) {
+        MilestoneDTO milestoneDTO = payload(operation.getMilestone());
+        milestoneDTO.setProjectId(project.getId());
+        if (!milestoneService.isValidMilestone(milestoneDTO)) {
+          throw new IllegalArgumentException("Invalid milestone");
+        }
+        Milestone milestone = Milestone.builder().title(milestoneDTO.getTitle())
+            .description(milestoneDTO.getDescription()).completed(milestoneDTO.isCompleted())
+            .project(project).build();
+        milestoneRepository.save(milestone);
+        milestones.put(milestone.getId(), milestone);
+        return milestone;
+      }
+
+      Milestone milestone = milestone(operation.getId());
+      if (operation.getAction() == Action.DELETE) {
+        // Pending counter changes must land before the milestone's counts leave the project
+        writeCounters();
+        softDeleteService.deleteMilestone(milestone.getId(), true);
+        milestones.remove(milestone.getId());
+        tasks.values().removeIf(task -> task.getMilestone() == milestone);
+        return null;
+      }
+
+      MilestoneDTO milestoneDTO = payload(operation.getMilestone());
+      milestoneDTO.setProjectId(project.getId());
+      if (!milestoneService.isValidMilestoneTwo(milestoneDTO)) {
+        throw new IllegalArgumentException("Invalid milestone");
+      }
+      milestone.setTitle(milestoneDTO.getTitle());
+      milestone.setDescription(milestoneDTO.getDescription());
+      milestone.setCompleted(milestoneDTO.isCompleted());
+      return milestone;
+    }
+
+    private Comment applyComment(ProjectOperation operation) {
+      if (operation.getAction() == Action.CREATE) {
+        CommentDTO commentDTO = payload(operation.getComment());
+        Comment comment = Comment.builder().content(commentDTO.getContent())
+            .task(task(commentDTO.getTaskId())).user(userRepository.getReferenceById(userId))
+            .build();
+        commentRepository.save(comment);
+        return comment;
+      }
+
+      Comment comment = comments.get(operation.getId());
+      if (comment == null || deletedTaskIds.contains(comment.getTask().getId())) {
+        throw new EntityNotFoundException("Comment not found with id: " + operation.getId());
+      }
+      if (!admin && !comment.getUser().getId().equals(userId)) {
+        throw new IllegalArgumentException(
+            "User does not have permission to modify comment " + comment.getId());
+      }
+      if (operation.getAction() == Action.DELETE) {
+        comments.remove(comment.getId());
+        commentRepository.delete(comment);
+        return null;
+      }
+
+      comment.setContent(payload(operation.getComment()).getContent());
+      return comment;
+    }
+
+    private Task task(Long taskId) {
+      Task task = taskId != null ? tasks.get(taskId) : null;
+      if (task == null) {
+        throw new EntityNotFoundException("Task not found with id: " + taskId);
+      }
+      return task;
+    }
+
+    private Milestone milestone(Long milestoneId) {
+      if (milestoneId == null) {
+        return null;
+      }
+      Milestone milestone = milestones.get(milestoneId);
+      if (milestone == null) {
+        throw new EntityNotFoundException("Milestone not found with id: " + milestoneId);
+      }
+      return milestone;
+    }
+
+    private <T> T payload(T payload) {
+      return Objects.requireNonNull(payload, "payload for the target is required");
+    }
+
+    // Add or remove the task's contribution to the project and milestone counters
+    private void count(Task task, int sign) {
+      int completed = task.isCompleted() ? sign : 0;
+      addDelta(null, sign, completed);
+      if (task.getMilestone() != null) {
+        addDelta(task.getMilestone().getId(), sign, completed);
+      }
+    }
+
+    private void addDelta(Long milestoneId, int taskDelta, int completedDelta) {
+      int[] delta = counterDeltas.computeIfAbsent(milestoneId, key -> new int[2]);
+      delta[0] += taskDelta;
+      delta[1] += completedDelta;
+    }
+
+    void writeCounters() {
+      // The counter updates are native and only flush changes to their own table; milestones
+      // created in this batch and every task change must reach the database first
+      taskRepository.flush();
+      counterDeltas.forEach((milestoneId, delta) -> {
+        if (delta[0] == 0 && delta[1] == 0) {
+          return;
+        }
+        if (milestoneId == null) {
+          projectRepository.adjustProgressCounters(project.getId(), delta[0], delta[1]);
+          entityCacheInvalidator.evictAfterCommit(Project.class, project.getId());
+        } else {
+          milestoneRepository.adjustProgressCounters(milestoneId, delta[0], delta[1]);
+          entityCacheInvalidator.evictAfterCommit(Milestone.class, milestoneId);
+        }
+      });
+      counterDeltas.clear();
+    }
+
+    // Deleted tasks go last with two bulk statements, after everything else was flushed
+    void deleteTasks() {
+      if (deletedTaskIds.isEmpty()) {
+        return;
+      }
+      commentRepository.bulkDeleteByTaskIdIn(deletedTaskIds);
+      taskRepository.bulkDeleteByIdIn(deletedTaskIds);
+    }
+  }
+}
@@ -3,15 +3,19 @@ package com.projectmanage.main.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.projectmanage.main.model.Project;
-import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.DeletionStatusDTO;
 import com.projectmanage.main.model.dto.ProjectDTO;
-import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.model.dto.ProjectSummaryDTO;
+import com.projectmanage.main.model.dto.ProjectSummaryRow;
 import com.projectmanage.main.model.dto.UserDTO;
 import com.projectmanage.main.model.mapper.ProjectMapper;
+import com.projectmanage.main.repository.MilestoneRepository;
 import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,24 +24,75 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProjectService {
 
-  private final MilestoneService milestoneService;
-  private final TaskService taskService;
+  private final SoftDeleteService softDeleteService;
 
   private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final UserRepository userRepository;
   private final ProjectMapper projectMapper;
 
   // 특정 회원의 프로젝트 목록 읽기
   @Transactional(readOnly = true)
   public List<ProjectDTO> getProjectListByUser(String userEmail) {
-    List<ProjectDTO> projects =
-        projectMapper.toDTOList(projectRepository.findByUserEmail(userEmail));
-    return projects;
+    List<Project> projects = projectRepository.findByUserEmail(userEmail);
+    fetchProjectTrees(projects);
+    return projectMapper.toDTOList(projects);
+  }
+
+  // 특정 회원의 프로젝트 요약 목록 읽기 (마일스톤, 테스크 트리 없이 집계값만)
+  @Transactional(readOnly = true)
+  public List<ProjectSummaryDTO> getProjectSummariesByUser(String userEmail) {
+    return projectRepository.findSummariesByUserEmail(userEmail).stream()
+        .map(ProjectService::toSummary).toList();
   }
 
   // 프로젝트 하나 읽기
   @Transactional(readOnly = true)
   public ProjectDTO getProjectById(Long projectId) {
-    return projectMapper.toDTO(projectRepository.findById(projectId).orElse(null));
+    Project project = projectRepository.findById(projectId).orElse(null);
+    if (project != null) {
+      fetchProjectTrees(List.of(project));
+    }
+    return projectMapper.toDTO(project);
+  }
+
+  // 프로젝트 내용 버전 읽기 (기본키 조회 한 번, 조건부 GET 의 ETag 계산용)
+  public Optional<Long> getContentVersion(Long projectId) {
+    return projectRepository.findContentVersionById(projectId);
+  }
+
+  /**
+   * Initialize everything ProjectMapper walks (milestones, their tasks, and the project tasks) in
+   * three queries, however many projects there are. The collections are bags, which cannot be
+   * join-fetched together, so each one gets its own query; the results land in the persistence
+   * context and are picked up by the already loaded projects.
+   */
+  private void fetchProjectTrees(List<Project> projects) {
+    if (projects.isEmpty()) {
+      return;
+    }
+    List<Long> projectIds = projects.stream().map(Project::getId).toList();
+    projectRepository.fetchMilestones(projectIds);
+    milestoneRepository.fetchTasksByProjectIds(projectIds);
+    projectRepository.fetchTasks(projectIds);
+  }
+
+  // 요약 행을 목록 항목으로 (마지막 활동 시각은 프로젝트, 마일스톤, 테스크 중 최신)
+  private static ProjectSummaryDTO toSummary(ProjectSummaryRow row) {
+    LocalDateTime lastActivityAt = latest(
+        latest(row.getProjectUpdatedAt(), row.getLastMilestoneUpdate()), row.getLastTaskUpdate());
+    return ProjectSummaryDTO.builder().id(row.getId()).title(row.getTitle())
+        .description(row.getDescription())
+        .milestoneCount(row.getMilestoneCount() != null ? row.getMilestoneCount() : 0)
+        .taskCount(row.getTaskCount()).completedCount(row.getCompletedCount())
+        .lastActivityAt(lastActivityAt).build();
+  }
+
+  private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+    if (a == null) {
+      return b;
+    }
+    return b != null && b.isAfter(a) ? b : a;
   }
 
   // 프로젝트 생성
@@ -47,10 +102,9 @@ public class ProjectService {
       throw new IllegalArgumentException("Invalid project");
     }
 
-    project.setCreatedAt(LocalDateTime.now());
-    project.setUpdatedAt(LocalDateTime.now());
-
-    Project addProject = projectRepository.save(projectMapper.toEntity(project));
+    // 소유자는 인증된 회원이므로 조회 없이 참조만 연결
+    Project addProject = projectRepository.save(
+        projectMapper.toEntity(project, userRepository.getReferenceById(project.getUserId())));
     return projectMapper.toDTO(addProject);
   }
 
@@ -65,29 +119,32 @@ public class ProjectService {
       if (!isValidProject2(project)) {
         throw new IllegalArgumentException("Invalid project");
       }
-      Project newProject = projectRepository.save(projectMapper.toEntity(project));
-      return projectMapper.toDTO(newProject);
+      // 영속 상태의 프로젝트에 수정 항목만 반영(변경 감지로 UPDATE)
+      Project existingProject = projectRepository.findById(projectId).orElseThrow(
+          () -> new IllegalArgumentException("Project not found with id: " + projectId));
+      projectMapper.updateEntity(project, existingProject);
+      projectRepository.bumpContentVersion(projectId);
+      fetchProjectTrees(List.of(existingProject));
+      return projectMapper.toDTO(existingProject);
     } catch (Exception e) {
       log.error("Error updating project: {}", e.getMessage());
     }
     return null;
   }
 
-  // 프로젝트 삭제(DELETE CASCADE)
-  @Transactional
-  public void deleteProject(Long projectId) {
-    try {
-      List<Long> tasksId =
-          taskService.getTasksByProjectId(projectId).stream().map(TaskDTO::getId).toList();
-      tasksId.forEach(taskService::deleteTask);
-      List<Long> milestonesId =
-          milestoneService.getMilestoneList(projectId).stream().map(MilestoneDTO::getId).toList();
-      milestonesId.forEach((milestoneId) -> milestoneService.deleteMilestone(milestoneId, true));
-
-      projectRepository.deleteById(projectId);
-    } catch (Exception e) {
-      log.error("Error deleting project: {}", e.getMessage());
-    }
+  // 프로젝트 삭제(하위 마일스톤, 테스크까지 soft delete, 실제 삭제는 복구 기간 후 TombstonePurger)
+  public DeletionStatusDTO deleteProject(Long projectId) {
+    return softDeleteService.deleteProject(projectId);
+  }
+
+  // 삭제된 프로젝트 복구(복구 기간 내에만 가능)
+  public DeletionStatusDTO restoreProject(Long projectId) {
+    return softDeleteService.restoreProject(projectId);
+  }
+
+  // 프로젝트 삭제 진행 상태
+  public DeletionStatusDTO getDeletionStatus(Long projectId) {
+    return softDeleteService.getProjectStatus(projectId);
   }
 
   // 프로젝트 검증
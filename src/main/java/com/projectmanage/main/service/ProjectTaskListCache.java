@@ -0,0 +1,62 @@
+package com.projectmanage.main.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanage.main.model.dto.TaskDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Node-local cache of a project's mapped task list keyed by the project's content version. Writes
+ * never invalidate anything: they move the version, so the old entry is simply not asked for again
+ * and ages out once the cache is over its weight. This needs no cross-replica messages, because
+ * every replica reads the version from the database.
+ */
+@Component
+public class ProjectTaskListCache {
+
+  // Rough retained heap per cached task without its text: the DTO, boxed ids and date objects
+  private static final int TASK_OVERHEAD_BYTES = 360;
+  private static final int LIST_OVERHEAD_BYTES = 64;
+
+  private final Cache<Key, List<TaskDTO>> cache;
+
+  public ProjectTaskListCache(MeterRegistry meterRegistry,
+      @Value("${app.tasks.list-cache.max-weight}") DataSize maxWeight) {
+    this.cache = Caffeine.newBuilder().maximumWeight(maxWeight.toBytes())
+        .weigher(ProjectTaskListCache::weigh).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "project_task_lists");
+  }
+
+  /**
+   * The cached list for this version, loaded once per node on a miss. The list is shared between
+   * callers and must not be modified.
+   */
+  public List<TaskDTO> get(Long projectId, long version, Supplier<List<TaskDTO>> loader) {
+    return cache.get(new Key(projectId, version), key -> List.copyOf(loader.get()));
+  }
+
+  // Text is weighed at two bytes per character, the worst case of compact strings
+  private static int weigh(Key key, List<TaskDTO> tasks) {
+    long bytes = LIST_OVERHEAD_BYTES;
+    for (TaskDTO task : tasks) {
+      bytes += TASK_OVERHEAD_BYTES + 2L * (length(task.getTitle()) + length(task.getDescription()));
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  private static int length(String text) {
+    return text != null ? text.length() : 0;
+  }
+
+  private record Key(Long projectId, long version) {
+  }
+}
@@ -1,14 +1,18 @@
 package com.projectmanage.main.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.projectmanage.main.exception.TokenRefreshException;
 import com.projectmanage.main.model.RefreshToken;
 import com.projectmanage.main.model.User;
 import com.projectmanage.main.repository.RefreshTokenRepository;
@@ -20,45 +24,61 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+  private static final SecureRandom RANDOM = new SecureRandom();
+
   @Value("${app.jwt.refresh-token.expiration}")
   private Long refreshTokenDurationMs;
 
+  @Value("${app.jwt.refresh-token.max-sessions-per-user}")
+  private int maxSessionsPerUser;
+
   private final RefreshTokenRepository refreshTokenRepository;
   private final UserRepository userRepository;
 
-  public Optional<RefreshToken> findByToken(String token) {
-    return refreshTokenRepository.findByToken(token);
+  /**
+   * Open a new session for an already authenticated user. Every login gets its own token, and the
+   * user's oldest sessions beyond the cap are dropped in the same transaction.
+   */
+  @Transactional
+  public RefreshToken createRefreshToken(User user) {
+    String token = generateToken();
+    Instant now = Instant.now();
+    RefreshToken refreshToken = RefreshToken.builder().user(user).token(token)
+        .tokenHash(hash(token)).expiryDate(now.plusMillis(refreshTokenDurationMs)).createdAt(now)
+        .build();
+
+    refreshTokenRepository.insertSession(refreshToken.getTokenHash(), user.getId(),
+        refreshToken.getExpiryDate(), now);
+    refreshTokenRepository.deleteSessionsBeyond(user.getId(), maxSessionsPerUser);
+    return refreshToken;
   }
 
-  public RefreshToken createRefreshToken(String username) {
-    User user = userRepository.findByEmail(username)
-        .orElseThrow(() -> new RuntimeException("User not found with email: " + username));
+  /**
+   * Exchange a live refresh token for a new one. The presented token stops working immediately, so
+   * a replayed token is rejected.
+   *
+   * @return the rotated session with its owner and the new raw token, or empty when the token is
+   *         unknown, already used or expired
+   */
+  @Transactional
+  public Optional<RefreshToken> rotate(String presentedToken) {
+    String token = generateToken();
+    String tokenHash = hash(token);
+    Instant now = Instant.now();
+    Instant expiryDate = now.plusMillis(refreshTokenDurationMs);
 
-    // First, check if user already has a refresh token
-    Optional<RefreshToken> existingToken = refreshTokenRepository.findByUser(user);
-    if (existingToken.isPresent()) {
-      // Update existing token
-      RefreshToken refreshToken = existingToken.get();
-      refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-      return refreshTokenRepository.save(refreshToken);
+    if (refreshTokenRepository.rotateSession(hash(presentedToken), tokenHash, expiryDate,
+        now) == 0) {
+      return Optional.empty();
     }
-
-    // Create new token if none exists
-    RefreshToken refreshToken =
-        RefreshToken.builder().user(user).token(UUID.randomUUID().toString())
-            .expiryDate(Instant.now().plusMillis(refreshTokenDurationMs)).build();
-
-    return refreshTokenRepository.save(refreshToken);
+    // The owner usually comes from the second-level cache
+    return refreshTokenRepository.findUserIdByTokenHash(tokenHash)
+        .flatMap(userRepository::findById).map(user -> RefreshToken.builder().user(user)
+            .token(token).tokenHash(tokenHash).expiryDate(expiryDate).build());
   }
 
-  public RefreshToken verifyExpiration(RefreshToken token) {
-    if (token.getExpiryDate().compareTo(Instant.now()) < 0) {
-      refreshTokenRepository.delete(token);
-      throw new TokenRefreshException(token.getToken(),
-          "Refresh token was expired. Please make a new login request");
-    }
-
-    return token;
+  public void revoke(String presentedToken) {
+    refreshTokenRepository.deleteByTokenHash(hash(presentedToken));
   }
 
   @Transactional
@@ -67,4 +87,19 @@ public class RefreshTokenService {
         .orElseThrow(() -> new RuntimeException("User not found with email: " + username));
     refreshTokenRepository.deleteByUser(user);
   }
+
+  private static String generateToken() {
+    byte[] bytes = new byte[32];
+    RANDOM.nextBytes(bytes);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
 }
@@ -0,0 +1,76 @@
+package com.projectmanage.main.service;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.cluster.ClusterLock;
+import com.projectmanage.main.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically deletes expired refresh tokens in bounded batches, one transaction per batch, so the
+ * table stops growing and no single statement holds locks for long. Only the replica that wins the
+ * advisory lock runs a given sweep.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jwt.refresh-token.sweeper.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class RefreshTokenSweeper {
+
+  private static final long SWEEP_LOCK_KEY = 0x5245_4654_0001L;
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final ClusterLock clusterLock;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Counter purgedCounter;
+  private final Timer sweepTimer;
+
+  public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository,
+      ClusterLock clusterLock, TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${app.jwt.refresh-token.sweeper.batch-size}") int batchSize) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.clusterLock = clusterLock;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.purgedCounter = Counter.builder("refresh_tokens.sweeper.purged")
+        .description("Expired refresh tokens deleted by the sweeper").register(meterRegistry);
+    this.sweepTimer = Timer.builder("refresh_tokens.sweeper.duration")
+        .description("Time spent per refresh token sweep").register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.jwt.refresh-token.sweeper.interval}",
+      initialDelayString = "${app.jwt.refresh-token.sweeper.interval}")
+  public void sweep() {
+    try {
+      clusterLock.runExclusively(SWEEP_LOCK_KEY, () -> sweepTimer.record(this::purgeExpired))
+          .ifPresent(purged -> log.info("Refresh token sweep removed {} expired tokens", purged));
+    } catch (Exception e) {
+      log.error("Refresh token sweep failed: {}", e.getMessage());
+    }
+  }
+
+  private long purgeExpired() {
+    Instant now = Instant.now();
+    long total = 0;
+    int deleted;
+    do {
+      deleted = transactionTemplate
+          .execute(status -> refreshTokenRepository.deleteExpiredBatch(now, batchSize));
+      total += deleted;
+      purgedCounter.increment(deleted);
+    } while (deleted == batchSize);
+    return total;
+  }
+}
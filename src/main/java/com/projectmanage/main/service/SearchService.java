@@ -0,0 +1,69 @@
+package com.projectmanage.main.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import com.projectmanage.main.exception.InvalidSearchQueryException;
+import com.projectmanage.main.model.dto.CursorPage;
+import com.projectmanage.main.model.dto.SearchResultDTO;
+import com.projectmanage.main.repository.SearchRepository;
+import com.projectmanage.main.util.SearchCursor;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+  private final SearchRepository searchRepository;
+
+  @Value("${app.search.max-query-length}")
+  private int maxQueryLength;
+
+  @Value("${app.pagination.default-page-size}")
+  private int defaultPageSize;
+
+  @Value("${app.pagination.max-page-size}")
+  private int maxPageSize;
+
+  // 내 프로젝트의 테스크, 마일스톤, 댓글 검색 (점수 순, 커서 단위 페이지)
+  public CursorPage<SearchResultDTO> search(Long userId, String query, String cursor,
+      Integer limit) {
+    if (query == null || query.isBlank()) {
+      throw new InvalidSearchQueryException("Search query must not be empty");
+    }
+    if (query.length() > maxQueryLength) {
+      throw new InvalidSearchQueryException(
+          "Search query must be at most " + maxQueryLength + " characters");
+    }
+    int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+    SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+    List<SearchResultDTO> hits = searchRepository.search(userId, query, after, pageSize + 1);
+    String nextCursor = null;
+    if (hits.size() > pageSize) {
+      hits = hits.subList(0, pageSize);
+      SearchResultDTO last = hits.get(pageSize - 1);
+      nextCursor = new SearchCursor(last.getScore(), last.getKind(), last.getId()).encode();
+    }
+    hits.forEach(hit -> {
+      hit.setTitle(highlight(hit.getTitle()));
+      hit.setSnippet(highlight(hit.getSnippet()));
+    });
+    return CursorPage.<SearchResultDTO>builder().items(hits).nextCursor(nextCursor)
+        .limit(pageSize).build();
+  }
+
+  // Escape first, then turn the markers into tags, so stored text can never inject markup
+  static String highlight(String text) {
+    if (text == null) {
+      return null;
+    }
+    return HtmlUtils.htmlEscape(text).replace(SearchRepository.HIGHLIGHT_START, "<mark>")
+        .replace(SearchRepository.HIGHLIGHT_STOP, "</mark>");
+  }
+}
@@ -0,0 +1,172 @@
+package com.projectmanage.main.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.projectmanage.main.cluster.EntityCacheInvalidator;
+import com.projectmanage.main.exception.RestoreNotAllowedException;
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.dto.DeletionStatusDTO;
+import com.projectmanage.main.model.dto.DeletionStatusDTO.State;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.TaskRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Soft delete and restore of projects and milestones. A delete only stamps the same
+ * {@code deleted_at} on the parent and its children with a few bulk UPDATEs, which hides them from
+ * every entity query; {@link TombstonePurger} removes the rows once the restore window has passed.
+ * A restore clears exactly the rows stamped with the parent's timestamp, so children that were
+ * deleted on their own earlier stay deleted.
+ */
+@Slf4j
+@Service
+public class SoftDeleteService {
+
+  private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final TaskRepository taskRepository;
+  private final EntityCacheInvalidator entityCacheInvalidator;
+  private final Duration restoreWindow;
+
+  public SoftDeleteService(ProjectRepository projectRepository,
+      MilestoneRepository milestoneRepository, TaskRepository taskRepository,
+      EntityCacheInvalidator entityCacheInvalidator,
+      @Value("${app.deletion.restore-window}") Duration restoreWindow) {
+    this.projectRepository = projectRepository;
+    this.milestoneRepository = milestoneRepository;
+    this.taskRepository = taskRepository;
+    this.entityCacheInvalidator = entityCacheInvalidator;
+    this.restoreWindow = restoreWindow;
+  }
+
+  @Transactional
+  public DeletionStatusDTO deleteProject(Long projectId) {
+    LocalDateTime deletedAt = LocalDateTime.now();
+    if (projectRepository.softDelete(projectId, deletedAt) == 0) {
+      throw new EntityNotFoundException("Project not found with id: " + projectId);
+    }
+    milestoneRepository.softDeleteByProjectId(projectId, deletedAt);
+    int tasks = taskRepository.softDeleteByProjectId(projectId, deletedAt);
+    projectRepository.bumpContentVersion(projectId);
+    evictProjectTree(projectId);
+    log.info("Soft deleted project {} with {} tasks", projectId, tasks);
+    return status(projectId, deletedAt, tasks);
+  }
+
+  /**
+   * Soft delete a milestone. With {@code cascade} its tasks are deleted with it, otherwise they
+   * stay in the project without a milestone.
+   */
+  @Transactional
+  public DeletionStatusDTO deleteMilestone(Long milestoneId, boolean cascade) {
+    Milestone milestone = milestoneRepository.findById(milestoneId).orElseThrow(
+        () -> new EntityNotFoundException("Milestone not found with id: " + milestoneId));
+    LocalDateTime deletedAt = LocalDateTime.now();
+    int tasks = 0;
+    if (cascade) {
+      tasks = taskRepository.softDeleteByMilestoneId(milestoneId, deletedAt);
+      // Hidden tasks no longer count towards the project; read in SQL, the entity may be stale
+      projectRepository.adjustProgressCountersByMilestone(milestone.getProject().getId(),
+          milestoneId, -1);
+      entityCacheInvalidator.evictAfterCommit(Project.class, milestone.getProject().getId());
+    } else {
+      taskRepository.detachFromMilestone(milestoneId);
+      milestoneRepository.resetProgressCounters(milestoneId);
+    }
+    milestoneRepository.softDelete(milestoneId, deletedAt);
+    projectRepository.bumpContentVersion(milestone.getProject().getId());
+    entityCacheInvalidator.evictAfterCommit(Milestone.class, milestoneId);
+    return status(milestoneId, deletedAt, tasks);
+  }
+
+  @Transactional
+  public DeletionStatusDTO restoreProject(Long projectId) {
+    Project project = projectRepository.findIncludingDeleted(projectId)
+        .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+    LocalDateTime deletedAt = project.getDeletedAt();
+    if (deletedAt != null) {
+      checkRestorable(deletedAt);
+      projectRepository.restore(projectId, deletedAt);
+      milestoneRepository.restoreByProjectId(projectId, deletedAt);
+      taskRepository.restoreByProjectId(projectId, deletedAt);
+      projectRepository.bumpContentVersion(projectId);
+      evictProjectTree(projectId);
+    }
+    return status(projectId, null, project.getTaskCount());
+  }
+
+  @Transactional
+  public DeletionStatusDTO restoreMilestone(Long milestoneId) {
+    Milestone milestone = milestoneRepository.findIncludingDeleted(milestoneId).orElseThrow(
+        () -> new EntityNotFoundException("Milestone not found with id: " + milestoneId));
+    LocalDateTime deletedAt = milestone.getDeletedAt();
+    Long projectId = milestone.getProject().getId();
+    if (deletedAt != null) {
+      checkRestorable(deletedAt);
+      if (!projectRepository.existsById(projectId)) {
+        throw new RestoreNotAllowedException("Restore project " + projectId + " first");
+      }
+      milestoneRepository.restore(milestoneId, deletedAt);
+      taskRepository.restoreByMilestoneId(milestoneId, deletedAt);
+      projectRepository.adjustProgressCountersByMilestone(projectId, milestoneId, 1);
+      projectRepository.bumpContentVersion(projectId);
+      entityCacheInvalidator.evictAfterCommit(Project.class, projectId);
+      entityCacheInvalidator.evictAfterCommit(Milestone.class, milestoneId);
+    }
+    return status(milestoneId, null, milestone.getTaskCount());
+  }
+
+  @Transactional(readOnly = true)
+  public DeletionStatusDTO getProjectStatus(Long projectId) {
+    return projectRepository.findIncludingDeleted(projectId)
+        .map(project -> status(projectId, project.getDeletedAt(),
+            taskRepository.countIncludingDeletedByProjectId(projectId)))
+        .orElseGet(() -> purged(projectId));
+  }
+
+  @Transactional(readOnly = true)
+  public DeletionStatusDTO getMilestoneStatus(Long milestoneId) {
+    return milestoneRepository.findIncludingDeleted(milestoneId)
+        .map(milestone -> status(milestoneId, milestone.getDeletedAt(),
+            taskRepository.countIncludingDeletedByMilestoneId(milestoneId)))
+        .orElseGet(() -> purged(milestoneId));
+  }
+
+  // Rows whose visibility changed; another replica's findById must not serve its cached copy
+  private void evictProjectTree(Long projectId) {
+    entityCacheInvalidator.evictAfterCommit(Project.class, projectId);
+    for (Long milestoneId : milestoneRepository.findIdsIncludingDeletedByProjectId(projectId)) {
+      entityCacheInvalidator.evictAfterCommit(Milestone.class, milestoneId);
+    }
+  }
+
+  private void checkRestorable(LocalDateTime deletedAt) {
+    if (!LocalDateTime.now().isBefore(deletedAt.plus(restoreWindow))) {
+      throw new RestoreNotAllowedException("Restore window has passed, the data is being purged");
+    }
+  }
+
+  private DeletionStatusDTO status(Long id, LocalDateTime deletedAt, long remainingTasks) {
+    if (deletedAt == null) {
+      return DeletionStatusDTO.builder().id(id).state(State.ACTIVE).remainingTasks(remainingTasks)
+          .build();
+    }
+    LocalDateTime restorableUntil = deletedAt.plus(restoreWindow);
+    State state = LocalDateTime.now().isBefore(restorableUntil) ? State.RESTORABLE : State.PURGING;
+    return DeletionStatusDTO.builder().id(id).state(state).deletedAt(deletedAt)
+        .restorableUntil(restorableUntil).remainingTasks(remainingTasks).build();
+  }
+
+  private static DeletionStatusDTO purged(Long id) {
+    return DeletionStatusDTO.builder().id(id).state(State.PURGED).build();
+  }
+}
@@ -1,20 +1,33 @@
 package com.projectmanage.main.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.projectmanage.main.cluster.EntityCacheInvalidator;
+import com.projectmanage.main.exception.BatchTooLargeException;
 import com.projectmanage.main.model.Milestone;
 import com.projectmanage.main.model.Project;
 import com.projectmanage.main.model.Task;
 import com.projectmanage.main.model.Comment;
+import com.projectmanage.main.model.dto.CursorPage;
 import com.projectmanage.main.model.dto.TaskDTO;
 import com.projectmanage.main.model.mapper.TaskMapper;
 import com.projectmanage.main.repository.MilestoneRepository;
 import com.projectmanage.main.repository.ProjectRepository;
 import com.projectmanage.main.repository.TaskRepository;
 import com.projectmanage.main.repository.CommentRepository;
+import com.projectmanage.main.util.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -27,12 +40,39 @@ public class TaskService {
   private final MilestoneRepository milestoneRepository;
   private final CommentRepository commentRepository;
   private final TaskMapper taskMapper;
+  private final ProjectTaskListCache projectTaskListCache;
+  private final EntityCacheInvalidator entityCacheInvalidator;
 
+  @Value("${app.pagination.default-page-size}")
+  private int defaultPageSize;
+
+  @Value("${app.pagination.max-page-size}")
+  private int maxPageSize;
+
+  @Value("${app.tasks.batch.max-size}")
+  private int maxBatchSize;
+
+  /**
+   * All tasks of a project, newest first. The mapped list is cached per content version, so while
+   * the project is unchanged a call costs one lookup of the version.
+   */
+  @Transactional(readOnly = true)
   public List<TaskDTO> getTasksByProjectId(Long projectId) {
-    Project project = projectRepository.findById(projectId)
+    long version = projectRepository.findContentVersionById(projectId)
         .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
-    List<Task> tasks = taskRepository.findByProjectOrderByUpdatedAtDesc(project);
-    return taskMapper.toDTOList(tasks);
+    return getTasksByProjectId(projectId, version);
+  }
+
+  /**
+   * All tasks of a project for a content version the caller has already read. The version must be
+   * read before this call: a list loaded after it can only be as new or newer than the version it
+   * is cached under.
+   */
+  @Transactional(readOnly = true)
+  public List<TaskDTO> getTasksByProjectId(Long projectId, long version) {
+    Project project = projectRepository.getReferenceById(projectId);
+    return projectTaskListCache.get(projectId, version,
+        () -> taskMapper.toDTOList(taskRepository.findByProjectOrderByUpdatedAtDesc(project)));
   }
 
   public List<TaskDTO> getTasksByMilestoneId(Long milestoneId) {
@@ -42,44 +82,149 @@ public class TaskService {
     return taskMapper.toDTOList(tasks);
   }
 
+  /**
+   * One page of a project's tasks, newest first. Each page is a single index range scan, so deep
+   * pages cost the same as the first one.
+   *
+   * @param cursor {@code nextCursor} of the previous page, or null for the first page
+   * @param limit requested page size, clamped to 1..max-page-size
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<TaskDTO> getTaskPageByProjectId(Long projectId, String cursor,
+      Integer limit) {
+    if (!projectRepository.existsById(projectId)) {
+      throw new EntityNotFoundException("Project not found with id: " + projectId);
+    }
+    int pageSize = resolvePageSize(limit);
+    Limit fetchLimit = Limit.of(pageSize + 1);
+    List<Task> tasks;
+    if (cursor == null) {
+      tasks = taskRepository.findFirstPageByProjectId(projectId, fetchLimit);
+    } else {
+      KeysetCursor position = KeysetCursor.decode(cursor);
+      tasks = taskRepository.findPageByProjectIdAfter(projectId, position.updatedAt(),
+          position.id(), fetchLimit);
+    }
+    return toPage(tasks, pageSize);
+  }
+
+  // One page of a milestone's tasks, newest first
+  @Transactional(readOnly = true)
+  public CursorPage<TaskDTO> getTaskPageByMilestoneId(Long milestoneId, String cursor,
+      Integer limit) {
+    if (!milestoneRepository.existsById(milestoneId)) {
+      throw new EntityNotFoundException("Milestone not found with id: " + milestoneId);
+    }
+    int pageSize = resolvePageSize(limit);
+    Limit fetchLimit = Limit.of(pageSize + 1);
+    List<Task> tasks;
+    if (cursor == null) {
+      tasks = taskRepository.findFirstPageByMilestoneId(milestoneId, fetchLimit);
+    } else {
+      KeysetCursor position = KeysetCursor.decode(cursor);
+      tasks = taskRepository.findPageByMilestoneIdAfter(milestoneId, position.updatedAt(),
+          position.id(), fetchLimit);
+    }
+    return toPage(tasks, pageSize);
+  }
+
+  /**
+   * Tasks of several milestones loaded with one IN query and grouped by milestone id. Milestones
+   * without tasks are absent from the map.
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, List<TaskDTO>> getTasksByMilestoneIds(Collection<Long> milestoneIds) {
+    if (milestoneIds.isEmpty()) {
+      return Map.of();
+    }
+    return taskRepository.findByMilestoneIdIn(milestoneIds).stream().map(taskMapper::toDTO)
+        .collect(Collectors.groupingBy(TaskDTO::getMilestoneId, LinkedHashMap::new,
+            Collectors.toList()));
+  }
+
   public TaskDTO getTaskById(Long taskId) {
     Task task = taskRepository.findById(taskId)
         .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
     return taskMapper.toDTO(task);
   }
 
+  /**
+   * Create one task. The project and milestone are validated with one scalar query at most and
+   * attached as references; the project's counter update doubles as its existence check.
+   */
   @Transactional
   public TaskDTO createTask(TaskDTO taskDTO, Long projectId) {
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
-
-    Task task = taskMapper.toEntity(taskDTO);
-    task.setProject(project);
-    task.setCreatedAt(LocalDateTime.now());
-    task.setUpdatedAt(LocalDateTime.now());
+    Long milestoneId = taskDTO.getMilestoneId();
+    if (milestoneId != null) {
+      checkMilestoneInProject(milestoneId, projectId);
+    }
+    int completed = taskDTO.isCompleted() ? 1 : 0;
+    if (adjustProjectCounters(projectId, 1, completed) == 0) {
+      throw new EntityNotFoundException("Project not found with id: " + projectId);
+    }
+    if (milestoneId != null) {
+      adjustMilestoneCounters(milestoneId, 1, completed);
+    }
+    projectRepository.bumpContentVersion(projectId);
 
-    // If milestone ID is provided, associate the task with the milestone
-    if (taskDTO.getMilestoneId() != null) {
-      Milestone milestone = milestoneRepository.findById(taskDTO.getMilestoneId())
-          .orElseThrow(() -> new EntityNotFoundException(
-              "Milestone not found with id: " + taskDTO.getMilestoneId()));
+    Task task = taskMapper.toEntity(taskDTO, projectRepository.getReferenceById(projectId),
+        milestoneId != null ? milestoneRepository.getReferenceById(milestoneId) : null);
+    return taskMapper.toDTO(taskRepository.save(task));
+  }
 
+  /**
+   * Create many tasks in one project. Every referenced milestone is loaded once for the whole
+   * batch and the project is only referenced, ids come from the pooled sequence, and the inserts
+   * are flushed in JDBC batches on commit; counters are adjusted once per project and milestone.
+   */
+  @Transactional
+  public List<TaskDTO> createTasks(Long projectId, List<TaskDTO> taskDTOs) {
+    if (taskDTOs.size() > maxBatchSize) {
+      throw new BatchTooLargeException(
+          "At most " + maxBatchSize + " tasks per batch, got " + taskDTOs.size());
+    }
+    Set<Long> milestoneIds = taskDTOs.stream().map(TaskDTO::getMilestoneId)
+        .filter(Objects::nonNull).collect(Collectors.toSet());
+    Map<Long, Milestone> milestones = milestoneRepository.findAllById(milestoneIds).stream()
+        .collect(Collectors.toMap(Milestone::getId, Function.identity()));
+    for (Long milestoneId : milestoneIds) {
+      Milestone milestone = milestones.get(milestoneId);
+      if (milestone == null) {
+        throw new EntityNotFoundException("Milestone not found with id: " + milestoneId);
+      }
       // Ensure the milestone belongs to the same project
       if (!milestone.getProject().getId().equals(projectId)) {
         throw new IllegalArgumentException("Milestone does not belong to the specified project");
       }
+    }
 
-      task.setMilestone(milestone);
+    // One counter update per project and milestone instead of one per task; the project's also
+    // tells whether it exists
+    int completed = (int) taskDTOs.stream().filter(TaskDTO::isCompleted).count();
+    if (adjustProjectCounters(projectId, taskDTOs.size(), completed) == 0) {
+      throw new EntityNotFoundException("Project not found with id: " + projectId);
     }
+    projectRepository.bumpContentVersion(projectId);
 
-    Task savedTask = taskRepository.save(task);
-    return taskMapper.toDTO(savedTask);
+    Project project = projectRepository.getReferenceById(projectId);
+    List<Task> tasks = taskDTOs.stream().map(taskDTO -> taskMapper.toEntity(taskDTO, project,
+        taskDTO.getMilestoneId() != null ? milestones.get(taskDTO.getMilestoneId()) : null))
+        .toList();
+    List<Task> savedTasks = taskRepository.saveAll(tasks);
+    savedTasks.stream().filter(task -> task.getMilestone() != null)
+        .collect(Collectors.groupingBy(TaskService::milestoneIdOf))
+        .forEach((milestoneId, milestoneTasks) -> adjustMilestoneCounters(milestoneId,
+            milestoneTasks.size(),
+            (int) milestoneTasks.stream().filter(Task::isCompleted).count()));
+    return taskMapper.toDTOList(savedTasks);
   }
 
   @Transactional
   public TaskDTO updateTask(Long taskId, TaskDTO taskDTO) {
     Task existingTask = taskRepository.findById(taskId)
         .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
+    Long previousMilestoneId = milestoneIdOf(existingTask);
+    boolean previouslyCompleted = existingTask.isCompleted();
 
     existingTask.setTitle(taskDTO.getTitle());
     existingTask.setDescription(taskDTO.getDescription());
@@ -88,23 +233,20 @@ public class TaskService {
     existingTask.setUpdatedAt(LocalDateTime.now());
 
     // Handle milestone association
-    if (taskDTO.getMilestoneId() != null) {
-      Milestone milestone = milestoneRepository.findById(taskDTO.getMilestoneId())
-          .orElseThrow(() -> new EntityNotFoundException(
-              "Milestone not found with id: " + taskDTO.getMilestoneId()));
-
-      // Ensure the milestone belongs to the same project
-      if (!milestone.getProject().getId().equals(existingTask.getProject().getId())) {
-        throw new IllegalArgumentException(
-            "Milestone does not belong to the same project as the task");
+    Long milestoneId = taskDTO.getMilestoneId();
+    if (milestoneId != null) {
+      // Only a different milestone needs checking; it is attached as a reference
+      if (!milestoneId.equals(previousMilestoneId)) {
+        checkMilestoneInProject(milestoneId, existingTask.getProject().getId());
+        existingTask.setMilestone(milestoneRepository.getReferenceById(milestoneId));
       }
-
-      existingTask.setMilestone(milestone);
     } else {
       existingTask.setMilestone(null);
     }
 
     Task updatedTask = taskRepository.save(existingTask);
+    adjustProgressAfterUpdate(updatedTask, previousMilestoneId, previouslyCompleted);
+    projectRepository.bumpContentVersion(updatedTask.getProject().getId());
     return taskMapper.toDTO(updatedTask);
   }
 
@@ -119,5 +261,84 @@ public class TaskService {
         .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
 
     taskRepository.delete(task);
+    adjustProgress(task.getProject().getId(), milestoneIdOf(task), -1, task.isCompleted() ? -1 : 0);
+    projectRepository.bumpContentVersion(task.getProject().getId());
+  }
+
+  // Counters move by the task's own contribution when its completion or milestone changes
+  private void adjustProgressAfterUpdate(Task task, Long previousMilestoneId,
+      boolean previouslyCompleted) {
+    int completedNow = task.isCompleted() ? 1 : 0;
+    int completedBefore = previouslyCompleted ? 1 : 0;
+    Long milestoneId = milestoneIdOf(task);
+
+    adjustProgress(task.getProject().getId(), null, 0, completedNow - completedBefore);
+    if (Objects.equals(previousMilestoneId, milestoneId)) {
+      if (milestoneId != null && completedNow != completedBefore) {
+        adjustMilestoneCounters(milestoneId, 0, completedNow - completedBefore);
+      }
+      return;
+    }
+    if (previousMilestoneId != null) {
+      adjustMilestoneCounters(previousMilestoneId, -1, -completedBefore);
+    }
+    if (milestoneId != null) {
+      adjustMilestoneCounters(milestoneId, 1, completedNow);
+    }
+  }
+
+  private void adjustProgress(Long projectId, Long milestoneId, int taskDelta,
+      int completedDelta) {
+    if (taskDelta == 0 && completedDelta == 0) {
+      return;
+    }
+    adjustProjectCounters(projectId, taskDelta, completedDelta);
+    if (milestoneId != null) {
+      adjustMilestoneCounters(milestoneId, taskDelta, completedDelta);
+    }
+  }
+
+  // One scalar query instead of loading the milestone to compare its project
+  private void checkMilestoneInProject(Long milestoneId, Long projectId) {
+    Long milestoneProjectId = milestoneRepository.findProjectIdById(milestoneId).orElseThrow(
+        () -> new EntityNotFoundException("Milestone not found with id: " + milestoneId));
+    // Ensure the milestone belongs to the same project
+    if (!milestoneProjectId.equals(projectId)) {
+      throw new IllegalArgumentException("Milestone does not belong to the specified project");
+    }
+  }
+
+  // The counters live on cached rows, so the other replicas drop their copies on commit
+  private int adjustProjectCounters(Long projectId, int taskDelta, int completedDelta) {
+    entityCacheInvalidator.evictAfterCommit(Project.class, projectId);
+    return projectRepository.adjustProgressCounters(projectId, taskDelta, completedDelta);
+  }
+
+  private void adjustMilestoneCounters(Long milestoneId, int taskDelta, int completedDelta) {
+    entityCacheInvalidator.evictAfterCommit(Milestone.class, milestoneId);
+    milestoneRepository.adjustProgressCounters(milestoneId, taskDelta, completedDelta);
+  }
+
+  private static Long milestoneIdOf(Task task) {
+    return task.getMilestone() != null ? task.getMilestone().getId() : null;
+  }
+
+  private int resolvePageSize(Integer limit) {
+    if (limit == null) {
+      return defaultPageSize;
+    }
+    return Math.max(1, Math.min(limit, maxPageSize));
+  }
+
+  // Rows are fetched with one extra to learn whether another page exists
+  private CursorPage<TaskDTO> toPage(List<Task> tasks, int pageSize) {
+    String nextCursor = null;
+    if (tasks.size() > pageSize) {
+      tasks = tasks.subList(0, pageSize);
+      Task last = tasks.get(pageSize - 1);
+      nextCursor = new KeysetCursor(last.getUpdatedAt(), last.getId()).encode();
+    }
+    return CursorPage.<TaskDTO>builder().items(taskMapper.toDTOList(tasks))
+        .nextCursor(nextCursor).limit(pageSize).build();
   }
 }
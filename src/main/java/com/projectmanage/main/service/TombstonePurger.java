@@ -0,0 +1,140 @@
+package com.projectmanage.main.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.projectmanage.main.cluster.ClusterLock;
+import com.projectmanage.main.config.DeletionProperties;
+import com.projectmanage.main.model.dto.DeletionResult;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Physically removes soft deleted projects and milestones whose restore window has passed, oldest
+ * first. Each run spends at most a fixed number of chunk transactions, so a huge project is purged
+ * over several runs instead of in one long burst. Only the replica holding the advisory lock runs.
+ *
+ * <p>
+ * A tombstone whose purge fails is logged, counted and skipped for a while, so it cannot hold up
+ * the younger tombstones queued behind it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.deletion.purger.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class TombstonePurger {
+
+  private static final long PURGE_LOCK_KEY = 0x5055_5247_0001L;
+
+  private final ProjectRepository projectRepository;
+  private final MilestoneRepository milestoneRepository;
+  private final CascadeDeleteService cascadeDeleteService;
+  private final ClusterLock clusterLock;
+  private final Duration restoreWindow;
+  private final int chunksPerRun;
+  private final Duration failureBackoff;
+  private final Counter purgedTasksCounter;
+  private final Counter failuresCounter;
+  // Tombstones whose last purge failed, with the time they may be retried
+  private final Map<Long, LocalDateTime> skippedProjects = new ConcurrentHashMap<>();
+  private final Map<Long, LocalDateTime> skippedMilestones = new ConcurrentHashMap<>();
+
+  public TombstonePurger(ProjectRepository projectRepository,
+      MilestoneRepository milestoneRepository, CascadeDeleteService cascadeDeleteService,
+      ClusterLock clusterLock, MeterRegistry meterRegistry, DeletionProperties properties) {
+    this.projectRepository = projectRepository;
+    this.milestoneRepository = milestoneRepository;
+    this.cascadeDeleteService = cascadeDeleteService;
+    this.clusterLock = clusterLock;
+    this.restoreWindow = properties.getRestoreWindow();
+    this.chunksPerRun = properties.getPurger().getChunksPerRun();
+    this.failureBackoff = properties.getPurger().getFailureBackoff();
+    this.purgedTasksCounter = Counter.builder("deletion.purger.purged_tasks")
+        .description("Soft deleted tasks physically removed by the purger")
+        .register(meterRegistry);
+    this.failuresCounter = Counter.builder("deletion.purger.failures")
+        .description("Tombstones whose purge failed and was skipped").register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.deletion.purger.interval}",
+      initialDelayString = "${app.deletion.purger.interval}")
+  public void purge() {
+    try {
+      clusterLock.runExclusively(PURGE_LOCK_KEY, this::purgeExpired).filter(n -> n > 0)
+          .ifPresent(tasks -> log.info("Purger removed {} soft deleted tasks", tasks));
+    } catch (Exception e) {
+      log.error("Purging soft deleted data failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Purge expired tombstones until this run's chunk budget is spent.
+   *
+   * @return number of task rows removed
+   */
+  public long purgeExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime cutoff = now.minus(restoreWindow);
+    skippedProjects.values().removeIf(retryAt -> !now.isBefore(retryAt));
+    skippedMilestones.values().removeIf(retryAt -> !now.isBefore(retryAt));
+
+    int budget = chunksPerRun;
+    long purgedTasks = 0;
+    // Skipped tombstones are among the oldest, so fetch enough to fill the budget past them
+    for (Long projectId : projectRepository.findIdsDeletedBefore(cutoff,
+        chunksPerRun + skippedProjects.size())) {
+      if (budget <= 0) {
+        break;
+      }
+      if (skippedProjects.containsKey(projectId)) {
+        continue;
+      }
+      try {
+        DeletionResult result = cascadeDeleteService.purgeProject(projectId, budget);
+        budget -= result.getChunks();
+        purgedTasks += result.getTasks();
+      } catch (RuntimeException e) {
+        budget--;
+        skip(skippedProjects, "project", projectId, now, e);
+      }
+    }
+    for (Long milestoneId : milestoneRepository.findIdsDeletedBefore(cutoff,
+        chunksPerRun + skippedMilestones.size())) {
+      if (budget <= 0) {
+        break;
+      }
+      if (skippedMilestones.containsKey(milestoneId)) {
+        continue;
+      }
+      try {
+        DeletionResult result = cascadeDeleteService.purgeMilestone(milestoneId, budget);
+        budget -= result.getChunks();
+        purgedTasks += result.getTasks();
+      } catch (RuntimeException e) {
+        budget--;
+        skip(skippedMilestones, "milestone", milestoneId, now, e);
+      }
+    }
+    purgedTasksCounter.increment(purgedTasks);
+    return purgedTasks;
+  }
+
+  private void skip(Map<Long, LocalDateTime> skipped, String kind, Long id, LocalDateTime now,
+      RuntimeException e) {
+    LocalDateTime retryAt = now.plus(failureBackoff);
+    skipped.put(id, retryAt);
+    failuresCounter.increment();
+    log.error("Purging soft deleted {} {} failed, retrying after {}: {}", kind, id, retryAt,
+        e.getMessage());
+  }
+}
@@ -1,6 +1,9 @@
 package com.projectmanage.main.service;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,10 +11,17 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.projectmanage.main.cluster.EntityCacheInvalidator;
 import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.jwt.TokenVersionRegistry;
 import com.projectmanage.main.model.User;
 import com.projectmanage.main.model.dto.UserDTO;
+import com.projectmanage.main.model.mapper.UserMapper;
 import com.projectmanage.main.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -22,8 +32,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class UserService implements UserDetailsService {
 
+  private static final Set<String> ROLES = Set.of("USER", "ADMIN");
+
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserMapper userMapper;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersionRegistry;
+  private final PasswordHashingService passwordHashingService;
+  private final EntityCacheInvalidator entityCacheInvalidator;
+  private final TransactionTemplate transactionTemplate;
 
   @Override
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -35,30 +53,103 @@ public class UserService implements UserDetailsService {
     return new CustomUserDetails(userOptional.get());
   }
 
-  public User authenticateUser(String email, String password) {
+  /**
+   * Verify the password on the hashing pool. When the stored hash was made with a different bcrypt
+   * cost, it is transparently replaced while the plain password is at hand; that write runs in its
+   * own transaction on the application task executor, never on a hashing thread.
+   *
+   * @throws com.projectmanage.main.exception.ServiceBusyException when the hashing queue is full
+   */
+  public CompletableFuture<User> authenticateUser(String email, String password) {
     Optional<User> userOptional = userRepository.findByEmail(email);
     if (userOptional.isEmpty()) {
       throw new BadCredentialsException("Invalid email or password");
     }
 
     User user = userOptional.get();
-    if (user.getPassword() == null || !passwordEncoder.matches(password, user.getPassword())) {
+    if (user.getPassword() == null || password == null) {
       throw new BadCredentialsException("Invalid email or password");
     }
 
+    return passwordHashingService.submit(() -> {
+      if (!passwordEncoder.matches(password, user.getPassword())) {
+        throw new BadCredentialsException("Invalid email or password");
+      }
+      return passwordHashingService.needsRehash(user.getPassword())
+          ? passwordEncoder.encode(password)
+          : null;
+    }, rehashedPassword -> rehashedPassword == null
+        ? user
+        : transactionTemplate.execute(status -> storeRehashedPassword(user, rehashedPassword)));
+  }
+
+  private User storeRehashedPassword(User user, String rehashedPassword) {
+    log.debug("Rehashing password of user {} with the current bcrypt cost", user.getId());
+    userRepository.updatePassword(user.getId(), rehashedPassword);
+    entityCacheInvalidator.evictAfterCommit(User.class, user.getId());
+    user.setPassword(rehashedPassword);
     return user;
   }
 
-  public User registerUser(UserDTO userDTO) {
+  /**
+   * Register a user, hashing the password on the hashing pool. The insert runs in its own
+   * transaction on the application task executor.
+   *
+   * @throws com.projectmanage.main.exception.ServiceBusyException when the hashing queue is full
+   */
+  public CompletableFuture<User> registerUser(UserDTO userDTO) {
     if (userRepository.findByEmail(userDTO.getEmail()).isPresent()) {
       throw new IllegalArgumentException("Email already in use");
     }
 
-    User user = User.builder().email(userDTO.getEmail()).name(userDTO.getName())
-        .password(passwordEncoder.encode(userDTO.getPassword())).role("USER")
-        .username(userDTO.getEmail()).build();
+    return passwordHashingService.submit(() -> passwordEncoder.encode(userDTO.getPassword()),
+        encodedPassword -> transactionTemplate.execute(status -> userRepository.save(User.builder()
+            .email(userDTO.getEmail()).name(userDTO.getName()).password(encodedPassword)
+            .role("USER").username(userDTO.getEmail()).build())));
+  }
+
+  /**
+   * Change the caller's own name and picture, then evict the cached principal so the next request
+   * sees them. Email, username and role are not editable here.
+   */
+  @Transactional
+  public User updateProfile(String email, String name, String picture) {
+    User user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+
+    userMapper.updateEntityFromDto(user, UserDTO.builder().name(name).picture(picture).build());
+    principalCache.invalidateAfterCommit(email);
+    return user;
+  }
+
+  /**
+   * Change a user's role (administrators only). The token version is bumped as well, so access
+   * tokens carrying the old role stop working instead of living out their lifetime.
+   */
+  @Transactional
+  public User changeRole(Long userId, String role) {
+    if (!ROLES.contains(role)) {
+      throw new IllegalArgumentException("Unknown role: " + role);
+    }
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+
+    if (!Objects.equals(user.getRole(), role)) {
+      user.setRole(role);
+      user.setTokenVersion(user.getTokenVersion() + 1);
+      recordTokenVersionAfterCommit(user.getId(), user.getTokenVersion());
+      principalCache.invalidateAfterCommit(user.getEmail());
+    }
+    return user;
+  }
 
-    return userRepository.save(user);
+  private void recordTokenVersionAfterCommit(Long userId, int tokenVersion) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        tokenVersionRegistry.record(userId, tokenVersion);
+      }
+    });
   }
 
   public User getUserFromPrincipal(CustomUserDetails principal) {
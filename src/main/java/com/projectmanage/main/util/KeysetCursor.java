@@ -0,0 +1,40 @@
+package com.projectmanage.main.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.projectmanage.main.exception.InvalidCursorException;
+
+/**
+ * Position in a listing ordered by {@code (updated_at DESC, id DESC)}: the sort key of the last
+ * row returned. Handed to clients as an opaque base64url token.
+ */
+public record KeysetCursor(LocalDateTime updatedAt, long id) {
+
+  private static final char SEPARATOR = '|';
+
+  public String encode() {
+    String raw = updatedAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws InvalidCursorException when the token was not produced by {@link #encode()}
+   */
+  public static KeysetCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new InvalidCursorException("Malformed cursor");
+      }
+      return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidCursorException("Malformed cursor");
+    }
+  }
+}
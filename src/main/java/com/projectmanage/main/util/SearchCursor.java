@@ -0,0 +1,40 @@
+package com.projectmanage.main.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.projectmanage.main.exception.InvalidCursorException;
+import com.projectmanage.main.model.dto.SearchResultDTO.Kind;
+
+/**
+ * Position in search results ordered by {@code (score DESC, kind, id DESC)}: the sort key of the
+ * last hit returned. The score is kept as the exact float Postgres returned, so equal scores
+ * compare equal on the next page. Handed to clients as an opaque base64url token.
+ */
+public record SearchCursor(float score, Kind kind, long id) {
+
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = Float.toString(score) + SEPARATOR + kind + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws InvalidCursorException when the token was not produced by {@link #encode()}
+   */
+  public static SearchCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", -1);
+      if (parts.length != 3) {
+        throw new InvalidCursorException("Malformed cursor");
+      }
+      return new SearchCursor(Float.parseFloat(parts[0]), Kind.valueOf(parts[1]),
+          Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException("Malformed cursor");
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.projectmanage.main.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical hashed timing wheel for coarse expiry of many items. Each level has the same number
+ * of slots and covers {@code slotCount} times the span of the level below; items are placed on the
+ * lowest level whose span covers their deadline and cascade down as the wheel turns. Scheduling is
+ * O(1) and lock-free, so it can be called from request threads; {@link #advance} is meant to be
+ * driven by a single scheduler thread.
+ *
+ * <p>
+ * Items never expire early. An item scheduled while the wheel is turning may expire up to one
+ * revolution of its level late, which is fine for eviction and deny-list cleanup.
+ */
+public class TimingWheel<T> {
+
+  private final Queue<Entry<T>>[][] levels;
+  private final long[] ticksPerSlot;
+  private final int slotCount;
+  private final long tickNanos;
+  // Next level-0 tick to be visited by advance
+  private volatile long nextTick;
+
+  @SuppressWarnings("unchecked")
+  public TimingWheel(int slotCount, int levelCount, long tickNanos, long nowNanos) {
+    this.levels = new Queue[levelCount][slotCount];
+    this.ticksPerSlot = new long[levelCount];
+    long span = 1;
+    for (int level = 0; level < levelCount; level++) {
+      ticksPerSlot[level] = span;
+      span = Math.multiplyExact(span, slotCount);
+      for (int slot = 0; slot < slotCount; slot++) {
+        levels[level][slot] = new ConcurrentLinkedQueue<>();
+      }
+    }
+    this.slotCount = slotCount;
+    this.tickNanos = tickNanos;
+    this.nextTick = Math.floorDiv(nowNanos, tickNanos);
+  }
+
+  public void schedule(T item, long deadlineNanos) {
+    place(new Entry<>(item, deadlineNanos), nextTick);
+  }
+
+  /**
+   * Move the wheel up to {@code nowNanos}, handing every item whose deadline has passed to
+   * {@code expired}. Items may be rescheduled from inside the callback.
+   */
+  public void advance(long nowNanos, Consumer<T> expired) {
+    // Only fully elapsed ticks are visited, so every entry due in them has passed its deadline
+    long lastDueTick = Math.floorDiv(nowNanos, tickNanos) - 1;
+    for (long tick = nextTick; tick <= lastDueTick; tick++) {
+      nextTick = tick;
+      // Higher levels first, so cascaded entries due in this tick are expired right away
+      for (int level = levels.length - 1; level > 0; level--) {
+        if (tick % ticksPerSlot[level] == 0) {
+          Queue<Entry<T>> slot = levels[level][slotIndex(tick, level)];
+          for (int pending = slot.size(); pending > 0; pending--) {
+            Entry<T> entry = slot.poll();
+            if (entry == null) {
+              break;
+            }
+            place(entry, tick);
+          }
+        }
+      }
+
+      Queue<Entry<T>> slot = levels[0][slotIndex(tick, 0)];
+      // Only drain what was there on entry; rescheduled items may land in this same slot
+      for (int pending = slot.size(); pending > 0; pending--) {
+        Entry<T> entry = slot.poll();
+        if (entry == null) {
+          break;
+        }
+        if (entry.deadlineNanos() - nowNanos <= 0) {
+          expired.accept(entry.item());
+        } else {
+          slot.add(entry);
+        }
+      }
+    }
+    nextTick = Math.max(nextTick, lastDueTick + 1);
+  }
+
+  private void place(Entry<T> entry, long baseTick) {
+    // Overdue items go to the next slot to be visited
+    long tick = Math.max(Math.floorDiv(entry.deadlineNanos(), tickNanos), baseTick);
+    long delta = tick - baseTick;
+    int level = 0;
+    while (level < levels.length - 1 && delta >= ticksPerSlot[level] * slotCount) {
+      level++;
+    }
+    levels[level][slotIndex(tick, level)].add(entry);
+  }
+
+  private int slotIndex(long tick, int level) {
+    return (int) Math.floorMod(Math.floorDiv(tick, ticksPerSlot[level]), (long) slotCount);
+  }
+
+  private record Entry<T>(T item, long deadlineNanos) {
+  }
+}
@@ -0,0 +1,36 @@
+-- Runs on every startup after Hibernate has updated the schema (spring.sql.init, Postgres only).
+-- Statements must stay idempotent and safe to run from several replicas at once.
+
+-- Everything below runs under one advisory lock (0x534541520001) held on this script's
+-- connection, so replicas starting together take turns instead of racing on the same statements.
+SELECT pg_advisory_lock(91556913741825);
+
+-- Id sequences of the pooled generators (allocationSize 50). Tables that predate the switch from
+-- IDENTITY already hold ids past the sequence. Only a sequence that is behind its table is moved,
+-- and only forwards; one that is ahead is left alone, since running replicas draw from it.
+SELECT setval('projects_seq', (SELECT MAX(id) + 50 FROM projects))
+    WHERE (SELECT COALESCE(MAX(id), 0) FROM projects) > (SELECT last_value FROM projects_seq);
+SELECT setval('milestones_seq', (SELECT MAX(id) + 50 FROM milestones))
+    WHERE (SELECT COALESCE(MAX(id), 0) FROM milestones) > (SELECT last_value FROM milestones_seq);
+SELECT setval('tasks_seq', (SELECT MAX(id) + 50 FROM tasks))
+    WHERE (SELECT COALESCE(MAX(id), 0) FROM tasks) > (SELECT last_value FROM tasks_seq);
+SELECT setval('comments_seq', (SELECT MAX(id) + 50 FROM comments))
+    WHERE (SELECT COALESCE(MAX(id), 0) FROM comments) > (SELECT last_value FROM comments_seq);
+
+-- Full-text search (SearchRepository): generated tsvector columns with GIN indexes. The 'simple'
+-- configuration only lowercases and splits words; Postgres has no Korean dictionary, and English
+-- stemming would mangle mixed-language text. Titles weigh more than descriptions in the ranking.
+-- Adding a generated column rewrites the table once; the advisory lock keeps replicas from racing
+-- on the DDL.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS
+    (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+ALTER TABLE milestones ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS
+    (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS
+    (to_tsvector('simple', coalesce(content, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_milestones_search ON milestones USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_comments_search ON comments USING gin (search_vector);
+SELECT pg_advisory_unlock(91556913741825);
@@ -0,0 +1,157 @@
+package com.projectmanage.main.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+import com.projectmanage.main.service.ProgressCounterReconciler;
+import com.projectmanage.main.service.ProjectService;
+import com.projectmanage.main.service.TaskService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests for the EntityCacheInvalidator class.
+ *
+ * Counter writes must evict only the rows they touched, and notices from another replica must
+ * evict here. The bus itself is inert on H2, so notices are handed to the bean's handler.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityCacheInvalidatorTest {
+
+  private static final String OWNER_EMAIL = "entity-cache@example.com";
+
+  @Autowired
+  private EntityCacheInvalidator entityCacheInvalidator;
+  @Autowired
+  private TaskService taskService;
+  @Autowired
+  private ProjectService projectService;
+  @Autowired
+  private ProgressCounterReconciler progressCounterReconciler;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private MilestoneRepository milestoneRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Cache cache;
+  private ProjectTreeFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    statistics = sessionFactory.getStatistics();
+    cache = sessionFactory.getCache();
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    fixture.createOwner();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("A task write evicts its own project and milestone and leaves the rest cached")
+  void taskWriteEvictsOnlyTouchedRows() {
+    // Arrange
+    fixture.createProjects(0, 2);
+    progressCounterReconciler.reconcileAll();
+    List<Project> projects = fixture.projects();
+    Long projectId = projects.get(0).getId();
+    Long otherProjectId = projects.get(1).getId();
+    List<MilestoneDTO> milestones = projectService.getProjectById(projectId).getMilestones();
+    Long milestoneId = milestones.get(0).getId();
+    Long otherMilestoneId = milestones.get(1).getId();
+    List.of(projectId, otherProjectId).forEach(projectRepository::findById);
+    List.of(milestoneId, otherMilestoneId).forEach(milestoneRepository::findById);
+
+    // Act
+    taskService.createTask(TaskDTO.builder().title("Cached").milestoneId(milestoneId).build(),
+        projectId);
+
+    // Assert
+    assertThat(cache.containsEntity(Project.class, projectId)).isFalse();
+    assertThat(cache.containsEntity(Milestone.class, milestoneId)).isFalse();
+    assertThat(cache.containsEntity(Project.class, otherProjectId)).isTrue();
+    assertThat(cache.containsEntity(Milestone.class, otherMilestoneId)).isTrue();
+
+    statistics.clear();
+    projectRepository.findById(otherProjectId);
+    Project reloaded = projectRepository.findById(projectId).orElseThrow();
+    CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("projects");
+    assertThat(region.getHitCount()).isEqualTo(1);
+    assertThat(region.getMissCount()).isEqualTo(1);
+    assertThat(reloaded.getTaskCount()).isEqualTo(13);
+    assertThat(milestoneRepository.findById(milestoneId).orElseThrow().getTaskCount())
+        .isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("A notice from another replica evicts the row it names, or the whole region")
+  void remoteNoticesEvictHere() {
+    // Arrange
+    fixture.createProjects(0, 3);
+    List<Project> projects = fixture.projects();
+    List<Long> projectIds = projects.stream().map(Project::getId).toList();
+    projectIds.forEach(projectRepository::findById);
+
+    // Act & Assert: one row
+    entityCacheInvalidator.onRemoteEvict(
+        "another-node:" + Project.class.getName() + ":" + projectIds.get(0));
+    assertThat(cache.containsEntity(Project.class, projectIds.get(0))).isFalse();
+    assertThat(cache.containsEntity(Project.class, projectIds.get(1))).isTrue();
+
+    // Act & Assert: the whole region
+    entityCacheInvalidator.onRemoteEvict("another-node:" + Project.class.getName() + ":*");
+    assertThat(projectIds).noneMatch(id -> cache.containsEntity(Project.class, id));
+  }
+
+  @Test
+  @DisplayName("Rows reported outside a transaction are evicted at once")
+  void evictAfterCommitEvictsWithoutTransaction() {
+    // Arrange
+    fixture.createProjects(0, 2);
+    List<Project> projects = fixture.projects();
+    Long projectId = projects.get(0).getId();
+    Long otherProjectId = projects.get(1).getId();
+    List.of(projectId, otherProjectId).forEach(projectRepository::findById);
+
+    // Act
+    entityCacheInvalidator.evictAfterCommit(Project.class, projectId);
+
+    // Assert
+    assertThat(cache.containsEntity(Project.class, projectId)).isFalse();
+    assertThat(cache.containsEntity(Project.class, otherProjectId)).isTrue();
+  }
+}
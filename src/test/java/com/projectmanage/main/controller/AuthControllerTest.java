@@ -4,14 +4,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +30,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projectmanage.main.dto.CustomUserDetails;
@@ -54,6 +58,7 @@ class AuthControllerTest {
   private static final String TEST_NAME = "Test User";
   private static final String TEST_ACCESS_TOKEN = "test-access-token";
   private static final String TEST_REFRESH_TOKEN = "refresh-token";
+  private static final String TEST_ROTATED_REFRESH_TOKEN = "rotated-refresh-token";
 
   @Autowired
   private MockMvc mockMvc;
@@ -117,8 +122,7 @@ class AuthControllerTest {
 
   private void setupMockBehaviors() {
     when(userService.loadUserByUsername(TEST_EMAIL)).thenReturn(testUserDetails);
-    when(jwtUtil.createJwt(anyString(), anyString(), any(Long.class)))
-        .thenReturn(TEST_ACCESS_TOKEN);
+    when(jwtUtil.createJwt(any(User.class), any(Long.class))).thenReturn(TEST_ACCESS_TOKEN);
   }
 
   @Nested
@@ -129,13 +133,14 @@ class AuthControllerTest {
     @DisplayName("Successful login returns authentication response with tokens")
     void successfulLoginReturnsAuthenticationResponse() throws Exception {
       // Arrange
-      when(userService.authenticateUser(anyString(), anyString())).thenReturn(testUser);
-      when(refreshTokenService.createRefreshToken(anyString())).thenReturn(testRefreshToken);
+      when(userService.authenticateUser(anyString(), anyString()))
+          .thenReturn(CompletableFuture.completedFuture(testUser));
+      when(refreshTokenService.createRefreshToken(any(User.class))).thenReturn(testRefreshToken);
 
       Map<String, String> loginRequest = Map.of("email", TEST_EMAIL, "password", TEST_PASSWORD);
 
       // Act & Assert
-      performPostRequest("/api/auth/login", loginRequest).andExpect(status().isOk())
+      performAsyncPostRequest("/api/auth/login", loginRequest).andExpect(status().isOk())
           .andExpect(jsonPath("$.accessToken").value(TEST_ACCESS_TOKEN))
           .andExpect(jsonPath("$.refreshToken").value(testRefreshToken.getToken()))
           .andExpect(jsonPath("$.tokenType").value("Bearer"))
@@ -155,11 +160,12 @@ class AuthControllerTest {
     @DisplayName("Successful registration returns created user with tokens")
     void successfulRegistrationReturnsCreatedUser() throws Exception {
       // Arrange
-      when(userService.registerUser(any(UserDTO.class))).thenReturn(testUser);
-      when(refreshTokenService.createRefreshToken(anyString())).thenReturn(testRefreshToken);
+      when(userService.registerUser(any(UserDTO.class)))
+          .thenReturn(CompletableFuture.completedFuture(testUser));
+      when(refreshTokenService.createRefreshToken(any(User.class))).thenReturn(testRefreshToken);
 
       // Act & Assert
-      performPostRequest("/api/auth/register", testUserDTO).andExpect(status().isCreated())
+      performAsyncPostRequest("/api/auth/register", testUserDTO).andExpect(status().isCreated())
           .andExpect(jsonPath("$.accessToken").value(TEST_ACCESS_TOKEN))
           .andExpect(jsonPath("$.refreshToken").value(testRefreshToken.getToken()))
           .andExpect(jsonPath("$.tokenType").value("Bearer"))
@@ -176,13 +182,13 @@ class AuthControllerTest {
   class TokenRefreshTests {
 
     @Test
-    @DisplayName("Valid refresh token returns new access token")
+    @DisplayName("Valid refresh token returns new access token and rotated refresh token")
     void validRefreshTokenReturnsNewAccessToken() throws Exception {
       // Arrange
-      when(refreshTokenService.findByToken(TEST_REFRESH_TOKEN))
-          .thenReturn(Optional.of(testRefreshToken));
-      when(refreshTokenService.verifyExpiration(testRefreshToken)).thenReturn(testRefreshToken);
-      when(jwtUtil.createJwt(anyString(), anyString(), anyLong())).thenReturn("new-access-token");
+      RefreshToken rotatedToken = createTestRefreshToken();
+      rotatedToken.setToken(TEST_ROTATED_REFRESH_TOKEN);
+      when(refreshTokenService.rotate(TEST_REFRESH_TOKEN)).thenReturn(Optional.of(rotatedToken));
+      when(jwtUtil.createJwt(any(User.class), anyLong())).thenReturn("new-access-token");
 
       TokenRefreshRequest refreshRequest = new TokenRefreshRequest();
       refreshRequest.setRefreshToken(TEST_REFRESH_TOKEN);
@@ -190,11 +196,25 @@ class AuthControllerTest {
       // Act & Assert
       performPostRequest("/api/auth/refresh", refreshRequest).andExpect(status().isOk())
           .andExpect(jsonPath("$.accessToken").value("new-access-token"))
-          .andExpect(jsonPath("$.refreshToken").value(TEST_REFRESH_TOKEN))
+          .andExpect(jsonPath("$.refreshToken").value(TEST_ROTATED_REFRESH_TOKEN))
           .andExpect(jsonPath("$.tokenType").value("Bearer"));
     }
   }
 
+  @Nested
+  @DisplayName("Logout Tests")
+  class LogoutTests {
+
+    @Test
+    @DisplayName("Logout clears the authorization cookie")
+    void logoutClearsAuthorizationCookie() throws Exception {
+      // Act & Assert
+      performPostRequest("/api/auth/logout", Map.of()).andExpect(status().isOk())
+          .andExpect(jsonPath("$.authenticated").value(false))
+          .andExpect(cookie().maxAge("Authorization", 0));
+    }
+  }
+
   @Nested
   @DisplayName("Authentication Status Tests")
   class AuthStatusTests {
@@ -259,4 +279,13 @@ class AuthControllerTest {
         .contentType(MediaType.APPLICATION_JSON)
         .content(objectMapper.writeValueAsString(requestBody)));
   }
+
+  /**
+   * Helper method to perform a POST request against an endpoint that completes asynchronously
+   */
+  private ResultActions performAsyncPostRequest(String url, Object requestBody) throws Exception {
+    MvcResult result = performPostRequest(url, requestBody).andExpect(request().asyncStarted())
+        .andReturn();
+    return mockMvc.perform(asyncDispatch(result));
+  }
 }
@@ -0,0 +1,127 @@
+package com.projectmanage.main.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.dto.CustomUserDetails;
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+import com.projectmanage.main.service.ProjectExportService;
+
+/**
+ * Tests for the ProjectExportController class.
+ *
+ * Exports stream asynchronously, optionally gzip-compressed, and are turned away with 503 while
+ * every export slot of the node is taken.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectExportControllerTest {
+
+  private static final String OWNER_EMAIL = "export-controller@example.com";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private ProjectExportService projectExportService;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Value("${app.exports.concurrency}")
+  private int exportConcurrency;
+
+  private ProjectTreeFixture fixture;
+  private CustomUserDetails owner;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    owner = new CustomUserDetails(fixture.createOwner());
+    fixture.createProjects(0, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("compress=gzip streams the NDJSON as a .ndjson.gz attachment")
+  void gzipExportDecompressesToNdjson() throws Exception {
+    // Arrange
+    Long projectId = fixture.firstProjectId();
+
+    // Act
+    MvcResult started = mockMvc.perform(get("/api/projects/{projectId}/export", projectId)
+        .param("compress", "gzip").with(SecurityMockMvcRequestPostProcessors.user(owner)))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    MvcResult result = mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"project-" + projectId + ".ndjson.gz\""))
+        .andReturn();
+
+    // Assert
+    byte[] body = result.getResponse().getContentAsByteArray();
+    List<String> lines;
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+    }
+    assertThat(lines).hasSize(16);
+    assertThat(lines.get(0)).startsWith("{\"type\":\"project\"");
+  }
+
+  @Test
+  @DisplayName("An export is refused with 503 while every export slot is taken")
+  void exportIsRefusedWhenSlotsAreTaken() throws Exception {
+    // Arrange
+    Long projectId = fixture.firstProjectId();
+    for (int i = 0; i < exportConcurrency; i++) {
+      projectExportService.acquireExportSlot();
+    }
+
+    try {
+      // Act & Assert
+      mockMvc.perform(get("/api/projects/{projectId}/export", projectId)
+          .with(SecurityMockMvcRequestPostProcessors.user(owner)))
+          .andExpect(status().isServiceUnavailable());
+    } finally {
+      for (int i = 0; i < exportConcurrency; i++) {
+        projectExportService.releaseExportSlot();
+      }
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.projectmanage.main.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+import com.projectmanage.main.service.TaskService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests for the TaskController class.
+ *
+ * The unpaged task list is a conditional GET keyed by the project's content version: an unchanged
+ * project answers 304 without loading any task.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = TaskControllerTest.OWNER_EMAIL)
+class TaskControllerTest {
+
+  static final String OWNER_EMAIL = "task-controller@example.com";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private TaskService taskService;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private ProjectTreeFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    fixture.createOwner();
+    fixture.createProjects(0, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("A matching If-None-Match is answered with 304 without loading tasks")
+  void unchangedProjectAnswersNotModified() throws Exception {
+    // Arrange
+    Long projectId = fixture.firstProjectId();
+    String eTag = mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+        .andExpect(jsonPath("$.length()").value(12))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    // Act & Assert
+    statistics.clear();
+    mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(content().string(""));
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("A task write changes the ETag, so the old one gets the new list")
+  void changedProjectAnswersWithNewBody() throws Exception {
+    // Arrange
+    Long projectId = fixture.firstProjectId();
+    String eTag = mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    // Act
+    taskService.createTask(TaskDTO.builder().title("Changed").build(), projectId);
+
+    // Assert
+    String newETag = mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
+        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(13))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(newETag).isNotEqualTo(eTag);
+  }
+}
@@ -0,0 +1,74 @@
+package com.projectmanage.main.fixture;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.model.Milestone;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.Task;
+import com.projectmanage.main.model.User;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+/**
+ * Project trees for integration tests: one owner per test class, each project with 3 milestones
+ * of 4 tasks. Rows are saved through the repositories, so the progress counters stay at zero until
+ * {@code ProgressCounterReconciler.reconcileAll()} runs.
+ */
+public class ProjectTreeFixture {
+
+  private final String ownerEmail;
+  private final UserRepository userRepository;
+  private final ProjectRepository projectRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  public ProjectTreeFixture(String ownerEmail, UserRepository userRepository,
+      ProjectRepository projectRepository, TransactionTemplate transactionTemplate) {
+    this.ownerEmail = ownerEmail;
+    this.userRepository = userRepository;
+    this.projectRepository = projectRepository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  public User createOwner() {
+    return userRepository.save(User.builder().email(ownerEmail).username(ownerEmail)
+        .name("Fixture Owner").role("USER").build());
+  }
+
+  // Each project gets 3 milestones with 4 tasks each
+  public void createProjects(int from, int count) {
+    transactionTemplate.executeWithoutResult(status -> {
+      User owner = userRepository.findByEmail(ownerEmail).orElseThrow();
+      for (int i = from; i < from + count; i++) {
+        Project project = Project.builder().title("Fetch plan " + i).description("Project " + i)
+            .user(owner).createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build();
+        for (int m = 0; m < 3; m++) {
+          Milestone milestone = Milestone.builder().title("Milestone " + m).build();
+          project.addMilestone(milestone);
+          for (int t = 0; t < 4; t++) {
+            Task task = Task.builder().title("Task " + m + "-" + t).build();
+            project.addTask(task);
+            milestone.addTask(task);
+          }
+        }
+        projectRepository.save(project);
+      }
+    });
+  }
+
+  // The owner's live projects
+  public List<Project> projects() {
+    return projectRepository.findByUserEmail(ownerEmail);
+  }
+
+  public Long firstProjectId() {
+    return projects().get(0).getId();
+  }
+
+  public void cleanUp() {
+    projectRepository.deleteAll(projects());
+    userRepository.findByEmail(ownerEmail).ifPresent(userRepository::delete);
+  }
+}
@@ -0,0 +1,102 @@
+package com.projectmanage.main.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the RateLimiter class.
+ *
+ * The rules refill far too slowly to gain a token during a test, so every bucket only holds its
+ * initial burst.
+ */
+class RateLimiterTest {
+
+  private static final String CLIENT = "ip:203.0.113.7";
+
+  private SimpleMeterRegistry meterRegistry;
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setRules(List.of(rule("/api/auth/**", "POST", List.of("/api/auth/refresh"), 2),
+        rule("/api/projects/**", null, List.of(), 3)));
+    meterRegistry = new SimpleMeterRegistry();
+    rateLimiter = new RateLimiter(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("A client is rejected with a retry delay once its burst is used up")
+  void clientRejectedAfterBurst() {
+    // Act & Assert
+    assertThat(rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT)).isZero();
+    assertThat(rateLimiter.tryAcquire("POST", "/api/auth/register", CLIENT)).isZero();
+    assertThat(rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT)).isPositive();
+    assertThat(meterRegistry.get("rate_limit.rejected").tag("rule", "POST /api/auth/**").counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Each client has its own bucket")
+  void clientsAreLimitedIndependently() {
+    // Arrange
+    rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT);
+    rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT);
+
+    // Act & Assert
+    assertThat(rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT)).isPositive();
+    assertThat(rateLimiter.tryAcquire("POST", "/api/auth/login", "ip:198.51.100.1")).isZero();
+  }
+
+  @Test
+  @DisplayName("Token refresh is excluded from the auth rule")
+  void refreshIsNotThrottled() {
+    // Act & Assert
+    for (int i = 0; i < 10; i++) {
+      assertThat(rateLimiter.tryAcquire("POST", "/api/auth/refresh", CLIENT)).isZero();
+    }
+    assertThat(rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT)).isZero();
+  }
+
+  @Test
+  @DisplayName("Requests matching no rule, or another method, are never throttled")
+  void unmatchedRequestsAreNotThrottled() {
+    // Act & Assert
+    for (int i = 0; i < 10; i++) {
+      assertThat(rateLimiter.tryAcquire("GET", "/api/auth/user", CLIENT)).isZero();
+      assertThat(rateLimiter.tryAcquire("GET", "/api/search", CLIENT)).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("A rule without a method applies to every method and keeps separate buckets")
+  void ruleWithoutMethodAppliesToAllMethods() {
+    // Arrange
+    rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT);
+    rateLimiter.tryAcquire("POST", "/api/auth/login", CLIENT);
+
+    // Act & Assert: the exhausted auth bucket does not affect the projects rule
+    assertThat(rateLimiter.tryAcquire("GET", "/api/projects/1", CLIENT)).isZero();
+    assertThat(rateLimiter.tryAcquire("PUT", "/api/projects/1", CLIENT)).isZero();
+    assertThat(rateLimiter.tryAcquire("DELETE", "/api/projects/1", CLIENT)).isZero();
+    assertThat(rateLimiter.tryAcquire("GET", "/api/projects/1", CLIENT)).isPositive();
+  }
+
+  private static RateLimitProperties.Rule rule(String pattern, String method,
+      List<String> excludes, int capacity) {
+    RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+    rule.setPattern(pattern);
+    rule.setMethod(method);
+    rule.setExcludes(excludes);
+    rule.setCapacity(capacity);
+    rule.setRefillPerSecond(0.001);
+    return rule;
+  }
+}
@@ -0,0 +1,64 @@
+package com.projectmanage.main.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the TokenBucket class, with one token every 100ns and a burst of 3.
+ */
+class TokenBucketTest {
+
+  private static final long INTERVAL = 100;
+  private static final int CAPACITY = 3;
+
+  @Test
+  @DisplayName("A full bucket allows a burst of its capacity, then reports the wait")
+  void fullBucketAllowsBurstThenReportsWait() {
+    // Arrange
+    TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+
+    // Act & Assert
+    assertThat(bucket.tryConsume(0)).isZero();
+    assertThat(bucket.tryConsume(0)).isZero();
+    assertThat(bucket.tryConsume(0)).isZero();
+    assertThat(bucket.tryConsume(0)).isEqualTo(INTERVAL);
+    assertThat(bucket.tryConsume(40)).isEqualTo(INTERVAL - 40);
+  }
+
+  @Test
+  @DisplayName("Tokens refill one per interval and the bucket never holds more than its capacity")
+  void tokensRefillUpToCapacity() {
+    // Arrange
+    TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+    for (int i = 0; i < CAPACITY; i++) {
+      bucket.tryConsume(0);
+    }
+
+    // Act & Assert: one interval later exactly one token is back
+    assertThat(bucket.tryConsume(INTERVAL)).isZero();
+    assertThat(bucket.tryConsume(INTERVAL)).isPositive();
+
+    // Long idle: still only a burst of capacity
+    long later = 10_000;
+    for (int i = 0; i < CAPACITY; i++) {
+      assertThat(bucket.tryConsume(later)).isZero();
+    }
+    assertThat(bucket.tryConsume(later)).isPositive();
+  }
+
+  @Test
+  @DisplayName("The bucket is full again one interval per consumed token after the last take")
+  void fullAtTracksConsumedTokens() {
+    // Arrange
+    TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 1_000);
+
+    // Act
+    bucket.tryConsume(1_000);
+    bucket.tryConsume(1_000);
+
+    // Assert
+    assertThat(bucket.fullAt()).isEqualTo(1_000 + 2 * INTERVAL);
+  }
+}
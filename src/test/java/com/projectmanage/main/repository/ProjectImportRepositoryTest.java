@@ -0,0 +1,94 @@
+package com.projectmanage.main.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the ProjectImportRepository class.
+ *
+ * The statements themselves need PostgreSQL; these cover the column whitelist of the COPY and the
+ * block arithmetic the id allocation runs in SQL.
+ */
+class ProjectImportRepositoryTest {
+
+  private static final int BLOCK_SIZE = 50;
+
+  @Test
+  @DisplayName("Staging columns are copied in the order given")
+  void copySqlNamesGivenColumns() {
+    // Act
+    String sql = ProjectImportRepository.copySql(List.of("title", "type", "id"));
+
+    // Assert
+    assertThat(sql).isEqualTo("COPY import_rows (title, type, id) FROM STDIN WITH (FORMAT csv)");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"owner_id", "Title", "id) TO PROGRAM 'x'; --", ""})
+  @DisplayName("Any name outside the staging columns is refused before it reaches the SQL")
+  void copySqlRejectsUnknownColumns(String column) {
+    // Act & Assert
+    assertThatThrownBy(() -> ProjectImportRepository.copySql(List.of("type", column)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 0", "1, 1", "50, 1", "51, 2", "120, 3"})
+  @DisplayName("One nextval is drawn per started block of ids")
+  void blockCountRoundsUp(long rows, long blocks) {
+    // Act & Assert
+    assertThat(ProjectImportRepository.blockCount(rows)).isEqualTo(blocks);
+  }
+
+  @Test
+  @DisplayName("Rows get distinct ids inside the pooled block ending at their block's nextval")
+  void allocatedIdsStayInsideTheirBlocks() {
+    // Arrange: a pooled sequence hands out the last id of each block of 50
+    long rows = 120;
+    List<Long> blockLastIds = List.of(1050L, 1100L, 5000L);
+
+    // Act
+    List<Long> ids = new ArrayList<>();
+    for (long n = 0; n < rows; n++) {
+      long blockLastId = blockLastIds.get((int) ProjectImportRepository.blockOf(n));
+      ids.add(ProjectImportRepository.allocatedId(blockLastId, n));
+    }
+
+    // Assert
+    assertThat(ids).doesNotHaveDuplicates().hasSize((int) rows);
+    assertThat(ids.subList(0, 100)).isSortedAccordingTo(Long::compare)
+        .startsWith(1001L).endsWith(1100L);
+    assertThat(ids.subList(100, 120)).first().isEqualTo(5000L - BLOCK_SIZE + 1);
+    assertThat(ids.subList(100, 120)).allSatisfy(id -> assertThat(id).isBetween(4951L, 5000L));
+  }
+
+  @Test
+  @DisplayName("On an unused sequence the start value is redrawn, so no id falls below 1")
+  void unusedSequenceStartIsRedrawn() {
+    // Arrange: the 2 blocks of a 60-row import draw 1 and 51, then 101 replaces the 1
+    List<Long> drawn = List.of(1L, 51L, 101L);
+
+    // Act
+    List<Long> blockLastIds = drawn.stream().filter(ProjectImportRepository::isUsableBlock)
+        .toList();
+    List<Long> ids = new ArrayList<>();
+    for (long n = 0; n < 60; n++) {
+      long blockLastId = blockLastIds.get((int) ProjectImportRepository.blockOf(n));
+      ids.add(ProjectImportRepository.allocatedId(blockLastId, n));
+    }
+
+    // Assert: Hibernate's first block on a fresh sequence ends at 1 and is left alone
+    assertThat(blockLastIds).hasSize((int) ProjectImportRepository.blockCount(60));
+    assertThat(ids).doesNotHaveDuplicates().allSatisfy(id -> assertThat(id).isGreaterThan(1L));
+    assertThat(ids).startsWith(2L).endsWith(61L);
+  }
+}
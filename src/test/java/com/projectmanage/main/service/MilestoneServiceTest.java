@@ -0,0 +1,145 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.MilestoneProgressDTO;
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests for the MilestoneService class.
+ *
+ * The milestone list must load every milestone's tasks with one IN query, however many milestones
+ * the project has.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MilestoneServiceTest {
+
+  private static final String OWNER_EMAIL = "milestones@example.com";
+
+  @Autowired
+  private MilestoneService milestoneService;
+  @Autowired
+  private TaskService taskService;
+  @Autowired
+  private ProgressCounterReconciler progressCounterReconciler;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private ProjectTreeFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    fixture.createOwner();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("Milestone list loads all tasks in one IN query regardless of milestone count")
+  void milestoneListStatementCountIsConstant() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+    long threeMilestoneStatements = countStatements(projectId, 3);
+
+    for (int i = 0; i < 5; i++) {
+      milestoneService.addMilestone(projectId,
+          MilestoneDTO.builder().title("Empty " + i).build());
+    }
+
+    // Act
+    long eightMilestoneStatements = countStatements(projectId, 8);
+
+    // Assert
+    assertThat(eightMilestoneStatements).isEqualTo(threeMilestoneStatements);
+    assertThat(milestoneService.getMilestoneList(projectId))
+        .filteredOn(milestone -> milestone.getTitle().startsWith("Empty"))
+        .hasSize(5).allSatisfy(milestone -> assertThat(milestone.getTasks()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Milestone list groups each task under its own milestone")
+  void milestoneListGroupsTasksByMilestone() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+
+    // Act
+    List<MilestoneDTO> milestones = milestoneService.getMilestoneList(projectId);
+
+    // Assert
+    assertThat(milestones).hasSize(3).allSatisfy(milestone -> {
+      assertThat(milestone.getTasks()).hasSize(4)
+          .allSatisfy(task -> assertThat(task.getMilestoneId()).isEqualTo(milestone.getId()));
+      String prefix = "Task " + milestone.getTitle().substring("Milestone ".length()) + "-";
+      assertThat(milestone.getTasks()).extracting(TaskDTO::getTitle)
+          .allSatisfy(title -> assertThat(title).startsWith(prefix));
+    });
+  }
+
+  @Test
+  @DisplayName("Progress view reports counts and a rounded-down percentage")
+  void progressViewReportsCounts() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    Long projectId = fixture.firstProjectId();
+    MilestoneDTO milestone = milestoneService.getMilestoneList(projectId).get(0);
+    TaskDTO task = milestone.getTasks().get(0);
+    task.setCompleted(true);
+    taskService.updateTask(task.getId(), task);
+
+    // Act
+    List<MilestoneProgressDTO> progress = milestoneService.getMilestoneProgressList(projectId);
+
+    // Assert
+    assertThat(progress).hasSize(3);
+    assertThat(progress).filteredOn(entry -> entry.getId().equals(milestone.getId()))
+        .singleElement().satisfies(entry -> {
+          assertThat(entry.getTaskCount()).isEqualTo(4);
+          assertThat(entry.getCompletedTaskCount()).isEqualTo(1);
+          assertThat(entry.getProgressPercent()).isEqualTo(25);
+        });
+    assertThat(progress).filteredOn(entry -> !entry.getId().equals(milestone.getId()))
+        .allSatisfy(entry -> assertThat(entry.getProgressPercent()).isZero());
+  }
+
+  private long countStatements(Long projectId, int expectedMilestones) {
+    statistics.clear();
+    assertThat(milestoneService.getMilestoneList(projectId)).hasSize(expectedMilestones);
+    return statistics.getPrepareStatementCount();
+  }
+}
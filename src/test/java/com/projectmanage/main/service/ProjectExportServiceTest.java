@@ -0,0 +1,150 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.exception.ServiceBusyException;
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.Comment;
+import com.projectmanage.main.model.User;
+import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.repository.CommentRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.TaskRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+/**
+ * Tests for the ProjectExportService class.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectExportServiceTest {
+
+  private static final String OWNER_EMAIL = "export@example.com";
+
+  @Autowired
+  private ProjectExportService projectExportService;
+  @Autowired
+  private ProjectService projectService;
+  @Autowired
+  private SoftDeleteService softDeleteService;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private TaskRepository taskRepository;
+  @Autowired
+  private CommentRepository commentRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Value("${app.exports.concurrency}")
+  private int exportConcurrency;
+
+  private ProjectTreeFixture fixture;
+  private User owner;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    owner = fixture.createOwner();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("Export writes the project, then its milestones and tasks, one record per line")
+  void exportWritesOneRecordPerLine() throws Exception {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    projectExportService.export(projectId, out);
+
+    // Assert
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(lines).hasSize(16);
+    assertThat(lines.get(0)).startsWith("{\"type\":\"project\"");
+    assertThat(lines.subList(1, 4)).allSatisfy(
+        line -> assertThat(line).startsWith("{\"type\":\"milestone\""));
+    assertThat(lines.subList(4, 16)).allSatisfy(
+        line -> assertThat(line).startsWith("{\"type\":\"task\""));
+  }
+
+  @Test
+  @DisplayName("Export includes comments and leaves out deleted milestones, tasks and comments")
+  void exportSkipsDeletedRows() throws Exception {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+    List<MilestoneDTO> milestones = projectService.getProjectById(projectId).getMilestones();
+    Long deletedMilestoneId = milestones.get(0).getId();
+    comment(milestones.get(0).getTasks().get(0).getId(), "Deleted with its task");
+    comment(milestones.get(1).getTasks().get(0).getId(), "Kept");
+    softDeleteService.deleteMilestone(deletedMilestoneId, true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    projectExportService.export(projectId, out);
+
+    // Assert: the project, 2 milestones, their 8 tasks and the one live comment
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(lines).hasSize(12);
+    assertThat(lines.subList(1, 3)).allSatisfy(
+        line -> assertThat(line).startsWith("{\"type\":\"milestone\""));
+    assertThat(lines.subList(3, 11)).allSatisfy(line -> assertThat(line)
+        .startsWith("{\"type\":\"task\"")
+        .doesNotContain("\"milestoneId\":" + deletedMilestoneId + ","));
+    assertThat(lines.get(11)).startsWith("{\"type\":\"comment\"").contains("\"Kept\"");
+
+    // The restore leaves the tree whole for cleanUp
+    softDeleteService.restoreMilestone(deletedMilestoneId);
+  }
+
+  @Test
+  @DisplayName("Export slots are bounded and can be taken again once released")
+  void exportSlotsAreBounded() {
+    // Arrange
+    for (int i = 0; i < exportConcurrency; i++) {
+      projectExportService.acquireExportSlot();
+    }
+
+    try {
+      // Act & Assert
+      assertThatThrownBy(() -> projectExportService.acquireExportSlot())
+          .isInstanceOf(ServiceBusyException.class);
+      projectExportService.releaseExportSlot();
+      projectExportService.acquireExportSlot();
+    } finally {
+      for (int i = 0; i < exportConcurrency; i++) {
+        projectExportService.releaseExportSlot();
+      }
+    }
+  }
+
+  private void comment(Long taskId, String content) {
+    transactionTemplate.executeWithoutResult(status -> commentRepository.save(Comment.builder()
+        .content(content).task(taskRepository.getReferenceById(taskId)).user(owner).build()));
+  }
+}
@@ -0,0 +1,118 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.projectmanage.main.exception.BatchTooLargeException;
+import com.projectmanage.main.exception.InvalidImportException;
+import com.projectmanage.main.model.dto.ExportedComment;
+import com.projectmanage.main.model.dto.ExportedTask;
+
+/**
+ * Tests for the ProjectImportService class.
+ *
+ * Covers the parts that run before Postgres sees the file: the CSV rows written for NDJSON
+ * records, the CSV header, and the cap on what a gzip upload inflates to.
+ */
+class ProjectImportServiceTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+  @Test
+  @DisplayName("Text is quoted with doubled quotes, so commas and newlines stay in the field")
+  void writeRowQuotesText() throws Exception {
+    // Arrange
+    StringWriter out = new StringWriter();
+    ExportedTask task = new ExportedTask(7L, 3L, "Say \"hi\", then\nleave", "Plain", true,
+        LocalDate.of(2024, 3, 1), CREATED_AT, CREATED_AT);
+
+    // Act
+    ProjectImportService.writeRow(out, task);
+
+    // Assert
+    assertThat(out.toString()).isEqualTo("\"task\",7,3,,,\"Say \"\"hi\"\", then\nleave\","
+        + "\"Plain\",,true,2024-03-01,2024-03-01T09:30,2024-03-01T09:30\n");
+  }
+
+  @Test
+  @DisplayName("NULL is an empty field and an empty string a quoted empty field")
+  void writeRowKeepsNullApartFromEmpty() throws Exception {
+    // Arrange
+    StringWriter out = new StringWriter();
+    ExportedTask task = new ExportedTask(7L, null, "Title", "", false, null, null, null);
+    ExportedComment comment = new ExportedComment(9L, 7L, 42L, null, CREATED_AT, null);
+
+    // Act
+    ProjectImportService.writeRow(out, task);
+    ProjectImportService.writeRow(out, comment);
+
+    // Assert
+    assertThat(out.toString().lines()).containsExactly(
+        "\"task\",7,,,,\"Title\",\"\",,false,,,",
+        "\"comment\",9,,7,42,,,,,,2024-03-01T09:30,");
+  }
+
+  @Test
+  @DisplayName("The header is split into lower-case names and the rows are left unread")
+  void readHeaderNormalizesNames() throws Exception {
+    // Arrange
+    InputStream in = stream("\uFEFFType, ID ,Title\r\n\"task\",1,\"A\"\n");
+
+    // Act & Assert
+    assertThat(ProjectImportService.readHeader(in)).containsExactly("type", "id", "title");
+    assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo("\"task\",1,\"A\"\n");
+  }
+
+  @Test
+  @DisplayName("A missing or oversized header line is rejected")
+  void readHeaderRejectsMissingHeader() {
+    // Act & Assert
+    assertThatThrownBy(() -> ProjectImportService.readHeader(stream("type,id")))
+        .isInstanceOf(InvalidImportException.class);
+    assertThatThrownBy(() -> ProjectImportService.readHeader(stream("x".repeat(2048) + "\n")))
+        .isInstanceOf(InvalidImportException.class);
+  }
+
+  @Test
+  @DisplayName("Inflated bytes up to the limit are read, one more fails the import")
+  void limitedStreamCapsInflatedSize() throws Exception {
+    // Arrange: 1 MiB of zeros compresses to about a kilobyte
+    byte[] compressed = gzip(new byte[1024 * 1024]);
+
+    // Act & Assert
+    try (InputStream in = new ProjectImportService.LimitedInputStream(
+        new GZIPInputStream(new ByteArrayInputStream(compressed)), 1024 * 1024)) {
+      assertThat(in.readAllBytes()).hasSize(1024 * 1024);
+    }
+    try (InputStream in = new ProjectImportService.LimitedInputStream(
+        new GZIPInputStream(new ByteArrayInputStream(compressed)), 1024 * 1024 - 1)) {
+      assertThatThrownBy(in::readAllBytes).isInstanceOf(BatchTooLargeException.class);
+    }
+  }
+
+  private static InputStream stream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static byte[] gzip(byte[] data) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    return out.toByteArray();
+  }
+}
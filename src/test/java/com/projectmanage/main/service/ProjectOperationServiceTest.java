@@ -0,0 +1,171 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.exception.OperationFailedException;
+import com.projectmanage.main.exception.ProjectAccessDeniedException;
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.User;
+import com.projectmanage.main.model.dto.CommentDTO;
+import com.projectmanage.main.model.dto.MilestoneDTO;
+import com.projectmanage.main.model.dto.ProjectDTO;
+import com.projectmanage.main.model.dto.ProjectOperation;
+import com.projectmanage.main.model.dto.ProjectOperation.Action;
+import com.projectmanage.main.model.dto.ProjectOperation.Target;
+import com.projectmanage.main.model.dto.ProjectOperationResult;
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+/**
+ * Tests for the ProjectOperationService class.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectOperationServiceTest {
+
+  private static final String OWNER_EMAIL = "operations@example.com";
+  private static final String STRANGER_EMAIL = "operations-stranger@example.com";
+
+  @Autowired
+  private ProjectOperationService projectOperationService;
+  @Autowired
+  private ProjectService projectService;
+  @Autowired
+  private ProgressCounterReconciler progressCounterReconciler;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private ProjectTreeFixture fixture;
+  private User owner;
+  private Long projectId;
+  private ProjectDTO project;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    owner = fixture.createOwner();
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    projectId = fixture.firstProjectId();
+    project = projectService.getProjectById(projectId);
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+    userRepository.findByEmail(STRANGER_EMAIL).ifPresent(userRepository::delete);
+  }
+
+  @Test
+  @DisplayName("A mixed batch applies every change and leaves the counters exact")
+  void mixedBatchKeepsCountersExact() {
+    // Arrange
+    MilestoneDTO milestone = project.getMilestones().get(0);
+    TaskDTO updated = milestone.getTasks().get(0);
+    TaskDTO deleted = milestone.getTasks().get(1);
+    updated.setCompleted(true);
+    List<ProjectOperation> operations = List.of(
+        ProjectOperation.builder().action(Action.CREATE).target(Target.TASK)
+            .task(TaskDTO.builder().title("New").milestoneId(milestone.getId()).completed(true)
+                .build())
+            .build(),
+        ProjectOperation.builder().action(Action.UPDATE).target(Target.TASK).id(updated.getId())
+            .task(updated).build(),
+        ProjectOperation.builder().action(Action.DELETE).target(Target.TASK).id(deleted.getId())
+            .build(),
+        ProjectOperation.builder().action(Action.CREATE).target(Target.MILESTONE)
+            .milestone(MilestoneDTO.builder().title("Added").description("Batch").build())
+            .build(),
+        ProjectOperation.builder().action(Action.CREATE).target(Target.COMMENT)
+            .comment(CommentDTO.builder().taskId(updated.getId()).content("Done").build())
+            .build());
+
+    // Act
+    List<ProjectOperationResult> results =
+        projectOperationService.apply(projectId, owner.getId(), false, operations);
+
+    // Assert
+    assertThat(results).extracting(ProjectOperationResult::getIndex).containsExactly(0, 1, 2, 3,
+        4);
+    assertThat(results.get(0).getId()).isNotNull();
+    assertThat(results.get(2).getData()).isNull();
+    ProjectDTO reloaded = projectService.getProjectById(projectId);
+    assertThat(reloaded.getTaskCount()).isEqualTo(12);
+    assertThat(reloaded.getCompletedCount()).isEqualTo(2);
+    assertThat(reloaded.getMilestones()).hasSize(4);
+    assertThat(reloaded.getMilestones()).filteredOn(m -> m.getId().equals(milestone.getId()))
+        .singleElement().satisfies(m -> {
+          assertThat(m.getTaskCount()).isEqualTo(4);
+          assertThat(m.getCompletedCount()).isEqualTo(2);
+        });
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+
+  @Test
+  @DisplayName("One failing operation rolls back the whole batch and reports its index")
+  void failingOperationRollsBackBatch() {
+    // Arrange
+    Long milestoneId = project.getMilestones().get(0).getId();
+    TaskDTO deleted = project.getTasks().get(0);
+    List<ProjectOperation> operations = List.of(
+        ProjectOperation.builder().action(Action.CREATE).target(Target.TASK)
+            .task(TaskDTO.builder().title("Rolled back").milestoneId(milestoneId).build())
+            .build(),
+        ProjectOperation.builder().action(Action.DELETE).target(Target.TASK).id(deleted.getId())
+            .build(),
+        ProjectOperation.builder().action(Action.UPDATE).target(Target.TASK).id(Long.MAX_VALUE)
+            .task(TaskDTO.builder().title("Missing").build()).build());
+
+    // Act & Assert
+    assertThatThrownBy(
+        () -> projectOperationService.apply(projectId, owner.getId(), false, operations))
+        .isInstanceOfSatisfying(OperationFailedException.class,
+            e -> assertThat(e.getIndex()).isEqualTo(2));
+
+    ProjectDTO reloaded = projectService.getProjectById(projectId);
+    assertThat(reloaded.getTasks()).hasSize(12)
+        .noneMatch(task -> task.getTitle().equals("Rolled back"))
+        .anyMatch(task -> task.getId().equals(deleted.getId()));
+    assertThat(reloaded.getTaskCount()).isEqualTo(12);
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+
+  @Test
+  @DisplayName("Only the owner or an administrator may change a project")
+  void foreignProjectIsForbidden() {
+    // Arrange
+    User stranger = userRepository.save(User.builder().email(STRANGER_EMAIL)
+        .username(STRANGER_EMAIL).name("Stranger").role("USER").build());
+    List<ProjectOperation> operations = List.of(ProjectOperation.builder()
+        .action(Action.CREATE).target(Target.TASK)
+        .task(TaskDTO.builder().title("Intruder").build()).build());
+
+    // Act & Assert
+    assertThatThrownBy(
+        () -> projectOperationService.apply(projectId, stranger.getId(), false, operations))
+        .isInstanceOf(ProjectAccessDeniedException.class);
+    assertThat(projectService.getProjectById(projectId).getTasks()).hasSize(12);
+
+    assertThat(projectOperationService.apply(projectId, stranger.getId(), true, operations))
+        .hasSize(1);
+    assertThat(projectService.getProjectById(projectId).getTasks()).hasSize(13);
+  }
+}
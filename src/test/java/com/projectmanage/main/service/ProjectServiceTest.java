@@ -0,0 +1,120 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.dto.ProjectDTO;
+import com.projectmanage.main.model.dto.ProjectSummaryDTO;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests for the ProjectService class.
+ *
+ * Guards the project list fetch plan: the number of SQL statements must not grow with the number
+ * of projects, milestones or tasks.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectServiceTest {
+
+  private static final String OWNER_EMAIL = "fetch-plan@example.com";
+
+  // findByUserEmail, milestones, milestone tasks, project tasks
+  private static final long EXPECTED_STATEMENTS = 4;
+
+  @Autowired
+  private ProjectService projectService;
+  @Autowired
+  private ProgressCounterReconciler progressCounterReconciler;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private ProjectTreeFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    fixture.createOwner();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("Project list loads the full project tree in a fixed number of statements")
+  void projectListStatementCountIsConstant() {
+    // Arrange
+    fixture.createProjects(0, 2);
+    long smallListStatements = countStatements(2);
+
+    fixture.createProjects(2, 20);
+    long largeListStatements = countStatements(22);
+
+    // Assert
+    assertThat(smallListStatements).isEqualTo(EXPECTED_STATEMENTS);
+    assertThat(largeListStatements).isEqualTo(EXPECTED_STATEMENTS);
+  }
+
+  @Test
+  @DisplayName("Project summaries are aggregated in a single statement")
+  void projectSummariesUseOneStatement() {
+    // Arrange
+    fixture.createProjects(0, 5);
+    // Tasks saved through the repository bypass the counters
+    progressCounterReconciler.reconcileAll();
+
+    // Act
+    statistics.clear();
+    List<ProjectSummaryDTO> summaries = projectService.getProjectSummariesByUser(OWNER_EMAIL);
+
+    // Assert
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(summaries).hasSize(5).allSatisfy(summary -> {
+      assertThat(summary.getMilestoneCount()).isEqualTo(3);
+      assertThat(summary.getTaskCount()).isEqualTo(12);
+      assertThat(summary.getCompletedCount()).isEqualTo(0);
+      assertThat(summary.getLastActivityAt()).isNotNull();
+    });
+  }
+
+  private long countStatements(int expectedProjects) {
+    statistics.clear();
+    List<ProjectDTO> projects = projectService.getProjectListByUser(OWNER_EMAIL);
+
+    assertThat(projects).hasSize(expectedProjects);
+    assertThat(projects).allSatisfy(project -> {
+      assertThat(project.getMilestones()).hasSize(3);
+      assertThat(project.getMilestones())
+          .allSatisfy(milestone -> assertThat(milestone.getTasks()).hasSize(4));
+      assertThat(project.getTasks()).hasSize(12);
+    });
+    return statistics.getPrepareStatementCount();
+  }
+}
@@ -0,0 +1,59 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.projectmanage.main.repository.SearchRepository;
+
+/**
+ * Tests for the SearchService class.
+ *
+ * Highlighting escapes the stored text before turning the match markers into tags, so only the
+ * tags it adds itself can reach the client as markup.
+ */
+class SearchServiceTest {
+
+  private static final String START = SearchRepository.HIGHLIGHT_START;
+  private static final String STOP = SearchRepository.HIGHLIGHT_STOP;
+
+  @Test
+  @DisplayName("Match markers become mark tags")
+  void markersBecomeMarkTags() {
+    // Act
+    String highlighted = SearchService.highlight("Fix the " + START + "login" + STOP + " page");
+
+    // Assert
+    assertThat(highlighted).isEqualTo("Fix the <mark>login</mark> page");
+  }
+
+  @Test
+  @DisplayName("Markup in stored text is escaped, also inside a match")
+  void storedMarkupIsEscaped() {
+    // Act
+    String highlighted = SearchService.highlight(
+        "<script>alert('x')</script> & " + START + "<b>bold</b>" + STOP);
+
+    // Assert
+    assertThat(highlighted).isEqualTo("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; "
+        + "<mark>&lt;b&gt;bold&lt;/b&gt;</mark>");
+  }
+
+  @Test
+  @DisplayName("Literal mark tags in stored text stay escaped")
+  void literalMarkTagsStayEscaped() {
+    // Act
+    String highlighted = SearchService.highlight("<mark>fake</mark>");
+
+    // Assert
+    assertThat(highlighted).isEqualTo("&lt;mark&gt;fake&lt;/mark&gt;");
+  }
+
+  @Test
+  @DisplayName("A missing snippet stays missing")
+  void nullStaysNull() {
+    // Act & Assert
+    assertThat(SearchService.highlight(null)).isNull();
+  }
+}
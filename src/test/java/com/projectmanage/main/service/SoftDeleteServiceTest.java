@@ -0,0 +1,144 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.Project;
+import com.projectmanage.main.model.dto.DeletionResult;
+import com.projectmanage.main.model.dto.DeletionStatusDTO.State;
+import com.projectmanage.main.model.dto.ProjectDTO;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Tests for the SoftDeleteService class, together with the CascadeDeleteService purge that follows
+ * a soft delete.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SoftDeleteServiceTest {
+
+  private static final String OWNER_EMAIL = "soft-delete@example.com";
+
+  @Autowired
+  private SoftDeleteService softDeleteService;
+  @Autowired
+  private CascadeDeleteService cascadeDeleteService;
+  @Autowired
+  private ProjectService projectService;
+  @Autowired
+  private TaskService taskService;
+  @Autowired
+  private ProgressCounterReconciler progressCounterReconciler;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private ProjectTreeFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    fixture.createOwner();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("Deleting a project hides the tree until it is restored or purged")
+  void deleteProjectIsSoftUntilPurged() {
+    // Arrange
+    fixture.createProjects(0, 2);
+    progressCounterReconciler.reconcileAll();
+    List<Project> projects = fixture.projects();
+    Long projectId = projects.get(0).getId();
+
+    // Act & Assert: hidden but restorable
+    assertThat(softDeleteService.deleteProject(projectId).getState()).isEqualTo(State.RESTORABLE);
+    assertThat(fixture.projects()).hasSize(1);
+    assertThat(projectService.getProjectSummariesByUser(OWNER_EMAIL)).hasSize(1);
+    assertThatThrownBy(() -> taskService.getTasksByProjectId(projectId))
+        .isInstanceOf(EntityNotFoundException.class);
+
+    // Act & Assert: restored with its milestones and tasks
+    assertThat(softDeleteService.restoreProject(projectId).getState()).isEqualTo(State.ACTIVE);
+    ProjectDTO restored = projectService.getProjectById(projectId);
+    assertThat(restored.getMilestones()).hasSize(3);
+    assertThat(restored.getTasks()).hasSize(12);
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+
+    // Act & Assert: purged in bounded chunks
+    softDeleteService.deleteProject(projectId);
+    DeletionResult result = cascadeDeleteService.purgeProject(projectId, Integer.MAX_VALUE);
+    assertThat(result.isComplete()).isTrue();
+    assertThat(result.getProjects()).isEqualTo(1);
+    assertThat(result.getMilestones()).isEqualTo(3);
+    assertThat(result.getTasks()).isEqualTo(12);
+    assertThat(softDeleteService.getProjectStatus(projectId).getState()).isEqualTo(State.PURGED);
+    assertThat(projectService.getProjectById(projects.get(1).getId()).getTasks()).hasSize(12);
+  }
+
+  @Test
+  @DisplayName("Reconciling while a project is deleted leaves its counters for the restore")
+  void reconcileSkipsTombstones() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    Long projectId = fixture.firstProjectId();
+    Long milestoneId = projectService.getProjectById(projectId).getMilestones().get(0).getId();
+    softDeleteService.deleteProject(projectId);
+
+    // Act
+    long repaired = progressCounterReconciler.reconcileAll();
+    softDeleteService.restoreProject(projectId);
+
+    // Assert
+    assertThat(repaired).isZero();
+    ProjectDTO restored = projectService.getProjectById(projectId);
+    assertThat(restored.getTaskCount()).isEqualTo(12);
+    assertThat(restored.getMilestones()).filteredOn(m -> m.getId().equals(milestoneId))
+        .singleElement().satisfies(milestone -> assertThat(milestone.getTaskCount()).isEqualTo(4));
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+
+  @Test
+  @DisplayName("A milestone deleted with its tasks gives them back to the project on restore")
+  void cascadeMilestoneRestoreSurvivesReconcile() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    Long projectId = fixture.firstProjectId();
+    Long milestoneId = projectService.getProjectById(projectId).getMilestones().get(0).getId();
+    softDeleteService.deleteMilestone(milestoneId, true);
+    assertThat(projectService.getProjectById(projectId).getTaskCount()).isEqualTo(8);
+
+    // Act
+    progressCounterReconciler.reconcileAll();
+    softDeleteService.restoreMilestone(milestoneId);
+
+    // Assert
+    assertThat(projectService.getProjectById(projectId).getTaskCount()).isEqualTo(12);
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+}
@@ -0,0 +1,248 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.projectmanage.main.exception.InvalidCursorException;
+import com.projectmanage.main.fixture.ProjectTreeFixture;
+import com.projectmanage.main.model.dto.CursorPage;
+import com.projectmanage.main.model.dto.ProjectDTO;
+import com.projectmanage.main.model.dto.TaskDTO;
+import com.projectmanage.main.repository.ProjectRepository;
+import com.projectmanage.main.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests for the TaskService class.
+ *
+ * Task writes must keep the denormalized progress counters exact and stay cheap in statements;
+ * task reads are cached per project content version.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskServiceTest {
+
+  private static final String OWNER_EMAIL = "task-service@example.com";
+
+  @Autowired
+  private TaskService taskService;
+  @Autowired
+  private ProjectService projectService;
+  @Autowired
+  private ProgressCounterReconciler progressCounterReconciler;
+  @Autowired
+  private ProjectRepository projectRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+  private ProjectTreeFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    fixture = new ProjectTreeFixture(OWNER_EMAIL, userRepository, projectRepository,
+        transactionTemplate);
+    fixture.createOwner();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanUp();
+  }
+
+  @Test
+  @DisplayName("Task changes keep the project and milestone counters in step")
+  void taskChangesMaintainProgressCounters() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    Long projectId = fixture.firstProjectId();
+    Long milestoneId = projectService.getProjectById(projectId).getMilestones().get(0).getId();
+
+    // Act
+    TaskDTO created = taskService.createTask(
+        TaskDTO.builder().title("Counted").milestoneId(milestoneId).completed(true).build(),
+        projectId);
+    created.setCompleted(false);
+    taskService.updateTask(created.getId(), created);
+    created.setCompleted(true);
+    taskService.updateTask(created.getId(), created);
+    Long otherTaskId = projectService.getProjectById(projectId).getTasks().stream()
+        .filter(task -> !task.getId().equals(created.getId())).findFirst().orElseThrow().getId();
+    taskService.deleteTask(otherTaskId);
+
+    // Assert
+    ProjectDTO reloaded = projectService.getProjectById(projectId);
+    assertThat(reloaded.getTaskCount()).isEqualTo(12);
+    assertThat(reloaded.getCompletedCount()).isEqualTo(1);
+    assertThat(reloaded.getMilestones()).filteredOn(m -> m.getId().equals(milestoneId))
+        .singleElement().satisfies(milestone -> {
+          assertThat(milestone.getTaskCount()).isEqualTo(milestone.getTasks().size());
+          assertThat(milestone.getCompletedCount()).isEqualTo(1);
+        });
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+
+  @Test
+  @DisplayName("Creating a task attaches the project and milestone without loading them")
+  void createTaskLoadsNoEntities() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    ProjectDTO project = projectService.getProjectListByUser(OWNER_EMAIL).get(0);
+    Long milestoneId = project.getMilestones().get(0).getId();
+
+    // Act
+    statistics.clear();
+    TaskDTO created = taskService.createTask(
+        TaskDTO.builder().title("Referenced").milestoneId(milestoneId).build(), project.getId());
+
+    // Assert
+    assertThat(created.getProjectId()).isEqualTo(project.getId());
+    assertThat(created.getMilestoneId()).isEqualTo(milestoneId);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    assertThat(projectService.getProjectById(project.getId()).getTaskCount()).isEqualTo(13);
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+
+  @Test
+  @DisplayName("Batch task creation resolves references once and batches the inserts")
+  void createTasksUsesBatchedInserts() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    progressCounterReconciler.reconcileAll();
+    ProjectDTO project = projectService.getProjectListByUser(OWNER_EMAIL).get(0);
+    Long milestoneId = project.getMilestones().get(0).getId();
+    List<TaskDTO> batch = IntStream.range(0, 200).mapToObj(i -> TaskDTO.builder()
+        .title("Imported " + i).completed(i % 4 == 0).milestoneId(i % 2 == 0 ? milestoneId : null)
+        .build()).toList();
+
+    // Act
+    statistics.clear();
+    List<TaskDTO> created = taskService.createTasks(project.getId(), batch);
+
+    // Assert: 200 inserts in batches of 50, ids fetched 50 at a time
+    assertThat(created).hasSize(200).allSatisfy(task -> assertThat(task.getId()).isNotNull());
+    assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    assertThat(projectService.getProjectById(project.getId()).getTaskCount()).isEqualTo(212);
+    assertThat(progressCounterReconciler.reconcileAll()).isZero();
+  }
+
+  @Test
+  @DisplayName("An unchanged project's task list costs one version lookup")
+  void taskListIsCachedPerContentVersion() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+    assertThat(taskService.getTasksByProjectId(projectId)).hasSize(12);
+
+    // Act & Assert: served from the cache
+    statistics.clear();
+    assertThat(taskService.getTasksByProjectId(projectId)).hasSize(12);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    // Act & Assert: a write moves the version, so the next read reloads
+    taskService.createTask(TaskDTO.builder().title("Fresh").build(), projectId);
+    assertThat(taskService.getTasksByProjectId(projectId)).hasSize(13).first()
+        .extracting(TaskDTO::getTitle).isEqualTo("Fresh");
+  }
+
+  @Test
+  @DisplayName("Paging a project's tasks visits every task once, newest first, ties by id")
+  void taskPagesCoverEveryTaskOnce() {
+    // Arrange: every task shares one timestamp, so only the id tiebreak orders them
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+    touchTasks(projectId, LocalDateTime.of(2024, 1, 1, 12, 0));
+
+    // Act
+    List<CursorPage<TaskDTO>> pages = new ArrayList<>();
+    String cursor = null;
+    do {
+      CursorPage<TaskDTO> page = taskService.getTaskPageByProjectId(projectId, cursor, 5);
+      pages.add(page);
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+
+    // Assert
+    assertThat(pages).extracting(page -> page.getItems().size()).containsExactly(5, 5, 2);
+    List<Long> ids = pages.stream().flatMap(page -> page.getItems().stream())
+        .map(TaskDTO::getId).toList();
+    assertThat(ids).hasSize(12).doesNotHaveDuplicates()
+        .isSortedAccordingTo(Comparator.reverseOrder());
+  }
+
+  @Test
+  @DisplayName("A page that ends exactly on the last task has no next cursor")
+  void lastFullPageHasNoNextCursor() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+    Long milestoneId = projectService.getProjectById(projectId).getMilestones().get(0).getId();
+
+    // Act
+    CursorPage<TaskDTO> first = taskService.getTaskPageByMilestoneId(milestoneId, null, 2);
+    CursorPage<TaskDTO> second =
+        taskService.getTaskPageByMilestoneId(milestoneId, first.getNextCursor(), 2);
+    CursorPage<TaskDTO> whole = taskService.getTaskPageByMilestoneId(milestoneId, null, 4);
+
+    // Assert
+    assertThat(first.getItems()).hasSize(2);
+    assertThat(first.getNextCursor()).isNotNull();
+    assertThat(second.getItems()).hasSize(2);
+    assertThat(second.getNextCursor()).isNull();
+    assertThat(whole.getItems()).hasSize(4);
+    assertThat(whole.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("Page size is clamped and a forged cursor is rejected")
+  void pageSizeIsClampedAndForgedCursorRejected() {
+    // Arrange
+    fixture.createProjects(0, 1);
+    Long projectId = fixture.firstProjectId();
+
+    // Act & Assert
+    CursorPage<TaskDTO> page = taskService.getTaskPageByProjectId(projectId, null, 0);
+    assertThat(page.getLimit()).isEqualTo(1);
+    assertThat(page.getItems()).hasSize(1);
+    assertThat(taskService.getTaskPageByProjectId(projectId, null, Integer.MAX_VALUE).getItems())
+        .hasSize(12);
+    assertThatThrownBy(() -> taskService.getTaskPageByProjectId(projectId, "not-a-cursor", 5))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  // Bulk update, so @PreUpdate does not overwrite the timestamp
+  private void touchTasks(Long projectId, LocalDateTime updatedAt) {
+    transactionTemplate.executeWithoutResult(status -> entityManager
+        .createQuery("update Task t set t.updatedAt = :updatedAt where t.project.id = :projectId")
+        .setParameter("updatedAt", updatedAt).setParameter("projectId", projectId)
+        .executeUpdate());
+  }
+}
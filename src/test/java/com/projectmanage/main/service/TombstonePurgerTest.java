@@ -0,0 +1,128 @@
+package com.projectmanage.main.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.projectmanage.main.cluster.ClusterLock;
+import com.projectmanage.main.config.DeletionProperties;
+import com.projectmanage.main.model.dto.DeletionResult;
+import com.projectmanage.main.repository.MilestoneRepository;
+import com.projectmanage.main.repository.ProjectRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the TombstonePurger class: one tombstone that cannot be purged must not block the
+ * ones queued behind it.
+ */
+@ExtendWith(MockitoExtension.class)
+class TombstonePurgerTest {
+
+  private static final int CHUNKS_PER_RUN = 10;
+
+  @Mock
+  private ProjectRepository projectRepository;
+  @Mock
+  private MilestoneRepository milestoneRepository;
+  @Mock
+  private CascadeDeleteService cascadeDeleteService;
+  @Mock
+  private ClusterLock clusterLock;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TombstonePurger purger;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    DeletionProperties properties = new DeletionProperties();
+    properties.setRestoreWindow(Duration.ofHours(24));
+    properties.getPurger().setChunksPerRun(CHUNKS_PER_RUN);
+    properties.getPurger().setFailureBackoff(Duration.ofHours(1));
+    purger = new TombstonePurger(projectRepository, milestoneRepository, cascadeDeleteService,
+        clusterLock, meterRegistry, properties);
+  }
+
+  @Test
+  @DisplayName("A failing purge is skipped and the younger tombstones are still purged")
+  void failingTombstoneDoesNotBlockOthers() {
+    // Arrange
+    when(projectRepository.findIdsDeletedBefore(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of(1L, 2L));
+    when(milestoneRepository.findIdsDeletedBefore(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of());
+    when(cascadeDeleteService.purgeProject(eq(1L), anyInt()))
+        .thenThrow(new QueryTimeoutException("lock timeout"));
+    when(cascadeDeleteService.purgeProject(eq(2L), anyInt()))
+        .thenReturn(DeletionResult.builder().projects(1).tasks(7).chunks(1).complete(true).build());
+
+    // Act
+    long purged = purger.purgeExpired();
+
+    // Assert
+    assertThat(purged).isEqualTo(7);
+    assertThat(meterRegistry.get("deletion.purger.failures").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("A failed tombstone is not retried on the following runs within the backoff")
+  void failedTombstoneIsSkippedOnLaterRuns() {
+    // Arrange
+    when(projectRepository.findIdsDeletedBefore(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of(1L));
+    when(milestoneRepository.findIdsDeletedBefore(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of(5L));
+    when(cascadeDeleteService.purgeProject(eq(1L), anyInt()))
+        .thenThrow(new QueryTimeoutException("lock timeout"));
+    when(cascadeDeleteService.purgeMilestone(eq(5L), anyInt()))
+        .thenThrow(new QueryTimeoutException("lock timeout"));
+
+    // Act
+    purger.purgeExpired();
+    purger.purgeExpired();
+
+    // Assert: tried once each; the second run asked for one extra id past the skipped one
+    verify(cascadeDeleteService, times(1)).purgeProject(eq(1L), anyInt());
+    verify(cascadeDeleteService, times(1)).purgeMilestone(eq(5L), anyInt());
+    verify(projectRepository).findIdsDeletedBefore(any(LocalDateTime.class),
+        eq(CHUNKS_PER_RUN + 1));
+    assertThat(meterRegistry.get("deletion.purger.failures").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Nothing is purged once the chunk budget is spent")
+  void budgetStopsThePurge() {
+    // Arrange
+    when(projectRepository.findIdsDeletedBefore(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of(1L, 2L));
+    when(milestoneRepository.findIdsDeletedBefore(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of(5L));
+    when(cascadeDeleteService.purgeProject(eq(1L), eq(CHUNKS_PER_RUN))).thenReturn(
+        DeletionResult.builder().tasks(10_000).chunks(CHUNKS_PER_RUN).complete(false).build());
+
+    // Act
+    purger.purgeExpired();
+
+    // Assert
+    verify(cascadeDeleteService, never()).purgeProject(eq(2L), anyInt());
+    verify(cascadeDeleteService, never()).purgeMilestone(any(), anyInt());
+  }
+}
@@ -0,0 +1,50 @@
+package com.projectmanage.main.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.projectmanage.main.exception.InvalidCursorException;
+
+/**
+ * Tests for the KeysetCursor class.
+ */
+class KeysetCursorTest {
+
+  @Test
+  @DisplayName("A cursor survives encoding, including sub-second precision")
+  void cursorRoundTrips() {
+    // Arrange
+    KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123456789),
+        Long.MAX_VALUE);
+
+    // Act
+    String token = cursor.encode();
+
+    // Assert
+    assertThat(token).doesNotContain("=", "+", "/");
+    assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "***", "2024-01-01T00:00", "2024-01-01T00:00|", "yesterday|42",
+      "2024-01-01T00:00|forty-two"})
+  @DisplayName("A token that was not produced by encode is rejected")
+  void malformedTokenIsRejected(String raw) {
+    // Arrange
+    String token = raw.equals("***") ? raw
+        : Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+    // Act & Assert
+    assertThatThrownBy(() -> KeysetCursor.decode(token))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+}
@@ -0,0 +1,52 @@
+package com.projectmanage.main.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.projectmanage.main.exception.InvalidCursorException;
+import com.projectmanage.main.model.dto.SearchResultDTO.Kind;
+
+/**
+ * Tests for the SearchCursor class.
+ */
+class SearchCursorTest {
+
+  @Test
+  @DisplayName("A cursor survives encoding with the exact float score")
+  void cursorRoundTrips() {
+    // Arrange
+    SearchCursor cursor = new SearchCursor(Math.nextUp(0.1f), Kind.MILESTONE, Long.MAX_VALUE);
+
+    // Act
+    String token = cursor.encode();
+
+    // Assert
+    assertThat(token).doesNotContain("=", "+", "/");
+    SearchCursor decoded = SearchCursor.decode(token);
+    assertThat(decoded).isEqualTo(cursor);
+    assertThat(Float.floatToIntBits(decoded.score()))
+        .isEqualTo(Float.floatToIntBits(cursor.score()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "***", "0.5|TASK", "0.5|TASK|42|", "high|TASK|42", "0.5|task|42",
+      "0.5|PROJECT|42", "0.5|TASK|forty-two"})
+  @DisplayName("A token that was not produced by encode is rejected")
+  void malformedTokenIsRejected(String raw) {
+    // Arrange
+    String token = raw.equals("***") ? raw
+        : Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+    // Act & Assert
+    assertThatThrownBy(() -> SearchCursor.decode(token))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+}
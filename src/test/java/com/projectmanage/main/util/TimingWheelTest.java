@@ -0,0 +1,99 @@
+package com.projectmanage.main.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the TimingWheel class.
+ *
+ * Uses 8 slots of 10ns over two levels, so level 0 spans 80ns and anything further out starts on
+ * level 1 and has to cascade down.
+ */
+class TimingWheelTest {
+
+  private static final int SLOTS = 8;
+  private static final int LEVELS = 2;
+  private static final long TICK = 10;
+
+  private final List<String> expired = new ArrayList<>();
+
+  @Test
+  @DisplayName("An item expires once the tick holding its deadline has fully elapsed")
+  void itemExpiresAfterItsTick() {
+    // Arrange
+    TimingWheel<String> wheel = new TimingWheel<>(SLOTS, LEVELS, TICK, 0);
+    wheel.schedule("token", 35);
+
+    // Act & Assert
+    wheel.advance(34, expired::add);
+    assertThat(expired).isEmpty();
+
+    // Tick 3 (30-39ns) is still running at 35ns
+    wheel.advance(35, expired::add);
+    assertThat(expired).isEmpty();
+
+    wheel.advance(40, expired::add);
+    assertThat(expired).containsExactly("token");
+
+    wheel.advance(200, expired::add);
+    assertThat(expired).containsExactly("token");
+  }
+
+  @Test
+  @DisplayName("An item beyond the first level cascades down and never expires early")
+  void farItemCascadesWithoutExpiringEarly() {
+    // Arrange
+    TimingWheel<String> wheel = new TimingWheel<>(SLOTS, LEVELS, TICK, 0);
+    wheel.schedule("far", 500);
+    wheel.schedule("near", 20);
+
+    // Act & Assert
+    wheel.advance(490, expired::add);
+    assertThat(expired).containsExactly("near");
+
+    wheel.advance(510, expired::add);
+    assertThat(expired).containsExactly("near", "far");
+  }
+
+  @Test
+  @DisplayName("An overdue item expires on the next advance")
+  void overdueItemExpiresOnNextAdvance() {
+    // Arrange
+    TimingWheel<String> wheel = new TimingWheel<>(SLOTS, LEVELS, TICK, 100);
+    wheel.schedule("overdue", 50);
+
+    // Act
+    wheel.advance(110, expired::add);
+
+    // Assert
+    assertThat(expired).containsExactly("overdue");
+  }
+
+  @Test
+  @DisplayName("An item rescheduled from the callback expires again at its new deadline")
+  void itemRescheduledFromCallbackExpiresLater() {
+    // Arrange
+    TimingWheel<String> wheel = new TimingWheel<>(SLOTS, LEVELS, TICK, 0);
+    wheel.schedule("bucket", 15);
+
+    // Act
+    wheel.advance(20, item -> {
+      expired.add(item);
+      wheel.schedule(item, 45);
+    });
+
+    // Assert
+    assertThat(expired).containsExactly("bucket");
+
+    wheel.advance(49, expired::add);
+    assertThat(expired).containsExactly("bucket");
+
+    wheel.advance(50, expired::add);
+    assertThat(expired).containsExactly("bucket", "bucket");
+  }
+}